@@ -0,0 +1,83 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.samples.common.Broadphase;
+import game.samples.common.GridBroadphase;
+import game.samples.common.SweepAndPrune;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gitter gegen Sweep & Prune: ein Frame Broadphase (clear, add, findPairs)
+ * für Kreise, die sich wie Seeker pro Frame nur ein Stück bewegen.
+ * worldScale verkleinert die Welt (1 = 1280x720, 0.25 = sehr dicht).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadphaseBenchmark {
+    private static final float RADIUS = 10f;
+    private static final float SPEED = 2f; // Pixel pro Frame
+
+    @Param({ "grid", "sap" })
+    public String broadphaseType;
+
+    @Param({ "200", "2000" })
+    public int objectCount;
+
+    @Param({ "1", "0.25" })
+    public float worldScale;
+
+    private Broadphase broadphase;
+    private float width;
+    private float height;
+    private float[] x;
+    private float[] y;
+    private float[] velocityX;
+    private float[] velocityY;
+
+    @Setup
+    public void setup() {
+        width = 1280f * worldScale;
+        height = 720f * worldScale;
+        broadphase = broadphaseType.equals("sap")
+            ? new SweepAndPrune()
+            : new GridBroadphase(width, height, 8f);
+
+        MathUtils.random.setSeed(42);
+        x = new float[objectCount];
+        y = new float[objectCount];
+        velocityX = new float[objectCount];
+        velocityY = new float[objectCount];
+        for (int i = 0; i < objectCount; i++) {
+            x[i] = MathUtils.random(width);
+            y[i] = MathUtils.random(height);
+            float angle = MathUtils.random(MathUtils.PI2);
+            velocityX[i] = MathUtils.cos(angle) * SPEED;
+            velocityY[i] = MathUtils.sin(angle) * SPEED;
+        }
+    }
+
+    @Benchmark
+    public int frame() {
+        broadphase.clear();
+        for (int i = 0; i < objectCount; i++) {
+            // Am Rand abprallen, damit die Dichte gleich bleibt
+            x[i] += velocityX[i];
+            y[i] += velocityY[i];
+            if (x[i] < 0f || x[i] > width) velocityX[i] = -velocityX[i];
+            if (y[i] < 0f || y[i] > height) velocityY[i] = -velocityY[i];
+
+            broadphase.add(i, x[i], y[i], RADIUS);
+        }
+        return broadphase.findPairs();
+    }
+}
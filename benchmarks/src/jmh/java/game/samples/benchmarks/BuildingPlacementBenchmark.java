@@ -0,0 +1,74 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.samples.rts02.Building;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platzierungsprüfung aus rts02: ein Geister-Gebäude gegen alle gebauten
+ * Gebäude, für eine feste Folge von Mauspositionen.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BuildingPlacementBenchmark {
+    private static final float MAP_WIDTH = 4000f;
+    private static final float MAP_HEIGHT = 4000f;
+    private static final int CANDIDATES = 256;
+
+    @Param({ "50", "500", "2000" })
+    public int buildingCount;
+
+    private List<Building> buildings;
+    private Building ghost;
+    private float[] candidateX;
+    private float[] candidateY;
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(42);
+        Building.BuildingType[] types = Building.BuildingType.values();
+        buildings = new ArrayList<>();
+        for (int i = 0; i < buildingCount; i++) {
+            Building.BuildingType type = types[MathUtils.random(types.length - 1)];
+            buildings.add(new Building(MathUtils.random(MAP_WIDTH), MathUtils.random(MAP_HEIGHT),
+                Building.getDefaultWidth(type), Building.getDefaultHeight(type), type));
+        }
+
+        ghost = new Building(0, 0, Building.getDefaultWidth(Building.BuildingType.FACTORY),
+            Building.getDefaultHeight(Building.BuildingType.FACTORY), Building.BuildingType.FACTORY);
+        ghost.setGhost(true);
+        candidateX = new float[CANDIDATES];
+        candidateY = new float[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidateX[i] = MathUtils.random(MAP_WIDTH);
+            candidateY[i] = MathUtils.random(MAP_HEIGHT);
+        }
+    }
+
+    @Benchmark
+    public int overlaps() {
+        int blocked = 0;
+        for (int i = 0; i < CANDIDATES; i++) {
+            ghost.setPosition(candidateX[i], candidateY[i]);
+            for (Building building : buildings) {
+                if (ghost.overlaps(building)) {
+                    blocked++;
+                    break;
+                }
+            }
+        }
+        return blocked;
+    }
+}
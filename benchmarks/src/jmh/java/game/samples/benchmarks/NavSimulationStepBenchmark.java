@@ -0,0 +1,58 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.samples.nav01.NavSimulation;
+import game.samples.nav01.UnitEventLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ein Simulationsschritt von nav01 (Entscheiden, Übernehmen, Bewegen aller
+ * GridUnits) auf dem feinsten Gitter, seriell und ohne PathService.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NavSimulationStepBenchmark {
+    private static final float STEP = 1f / 60f;
+    private static final int SETTLE_STEPS = 300;
+
+    @Param({ "100", "1000", "5000" })
+    public int unitCount;
+
+    private NavSimulation simulation;
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(42);
+        simulation = new NavSimulation(3200f, 2400f, 20f, 0, 1);
+        simulation.getEventLog().setLevel(UnitEventLog.OFF);
+        simulation.setPathServiceEnabled(false);
+        for (int i = 0; i < unitCount; i++) {
+            simulation.spawnRandomUnit();
+        }
+        // Spawn-Welle (alle planen gleichzeitig) nicht mitmessen
+        for (int i = 0; i < SETTLE_STEPS; i++) {
+            simulation.step(STEP);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        simulation.dispose();
+    }
+
+    @Benchmark
+    public void step() {
+        simulation.step(STEP);
+    }
+}
@@ -0,0 +1,55 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.CatmullRomSpline;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abtasten einer CatmullRomSpline wie in demo01-03 (SplineObject.update
+ * und das Zeichnen der Kurve).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SplineBenchmark {
+    private static final int SAMPLES = 1000;
+
+    @Param({ "5", "50" })
+    public int controlPointCount;
+
+    @Param({ "false", "true" })
+    public boolean continuous;
+
+    private CatmullRomSpline<Vector2> spline;
+    private final Vector2 out = new Vector2();
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(42);
+        Vector2[] controlPoints = new Vector2[controlPointCount];
+        for (int i = 0; i < controlPointCount; i++) {
+            controlPoints[i] = new Vector2(MathUtils.random(800f), MathUtils.random(600f));
+        }
+        spline = new CatmullRomSpline<>(controlPoints, continuous);
+    }
+
+    @Benchmark
+    public float valueAt() {
+        float sum = 0f;
+        for (int i = 0; i < SAMPLES; i++) {
+            spline.valueAt(out, i / (float)(SAMPLES - 1));
+            sum += out.x + out.y;
+        }
+        return sum;
+    }
+}
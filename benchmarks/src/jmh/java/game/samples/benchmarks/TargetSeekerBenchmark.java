@@ -0,0 +1,68 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.samples.demo06.TargetSeeker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TargetSeeker aus demo06 (Bewegung und Kollision sind in demo04/demo05 gleich):
+ * ein Frame Bewegung, Zielsuche aller Seeker und paarweise Kollisionsprüfung.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TargetSeekerBenchmark {
+    private static final float STEP = 1f / 60f;
+
+    @Param({ "20", "200", "1000" })
+    public int seekerCount;
+
+    private List<TargetSeeker> seekers;
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(42);
+        seekers = new ArrayList<>();
+        for (int i = 0; i < seekerCount; i++) {
+            seekers.add(new TargetSeeker(1920f, 1080f, 20f, 150f, 180f));
+        }
+    }
+
+    @Benchmark
+    public void update() {
+        for (TargetSeeker seeker : seekers) {
+            seeker.update(STEP);
+        }
+    }
+
+    @Benchmark
+    public void findEnemyInRange(Blackhole blackhole) {
+        for (TargetSeeker seeker : seekers) {
+            blackhole.consume(seeker.findEnemyInRange(seekers));
+        }
+    }
+
+    @Benchmark
+    public int collidesWith() {
+        int collisions = 0;
+        for (int i = 0; i < seekers.size(); i++) {
+            TargetSeeker a = seekers.get(i);
+            for (int j = i + 1; j < seekers.size(); j++) {
+                if (a.collidesWith(seekers.get(j))) collisions++;
+            }
+        }
+        return collisions;
+    }
+}
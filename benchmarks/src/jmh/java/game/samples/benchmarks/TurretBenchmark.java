@@ -0,0 +1,69 @@
+package game.samples.benchmarks;
+
+import com.badlogic.gdx.math.MathUtils;
+import game.samples.rts03.Bullet;
+import game.samples.rts03.PlayerShip;
+import game.samples.rts03.TurretTower;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Türme und Geschosse aus rts03: Ausrichten aller Türme auf das Schiff
+ * und Trefferprüfung aller Geschosse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TurretBenchmark {
+    private static final float STEP = 1f / 60f;
+
+    @Param({ "10", "100", "1000" })
+    public int count;
+
+    private PlayerShip player;
+    private List<TurretTower> towers;
+    private List<Bullet> bullets;
+
+    @Setup
+    public void setup() {
+        MathUtils.random.setSeed(42);
+        player = new PlayerShip(1000f, 1000f);
+
+        // Türme rund um das Schiff, teils in, teils außerhalb der Erfassungsreichweite
+        towers = new ArrayList<>();
+        bullets = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            towers.add(new TurretTower(MathUtils.random(500f, 1500f), MathUtils.random(500f, 1500f)));
+            Bullet bullet = new Bullet();
+            bullet.init(MathUtils.random(900f, 1100f), MathUtils.random(900f, 1100f),
+                MathUtils.random(360f), 400f, 10, MathUtils.randomBoolean(0.75f));
+            bullets.add(bullet);
+        }
+    }
+
+    @Benchmark
+    public void towerUpdate() {
+        for (TurretTower tower : towers) {
+            tower.update(STEP, player);
+        }
+    }
+
+    @Benchmark
+    public int bulletCheckHit() {
+        int hits = 0;
+        for (Bullet bullet : bullets) {
+            if (bullet.checkHit(player)) hits++;
+        }
+        return hits;
+    }
+}
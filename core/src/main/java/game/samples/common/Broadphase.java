@@ -0,0 +1,46 @@
+package game.samples.common;
+
+/**
+ * Broadphase für Kreis-Kollisionen: liefert Kandidatenpaare, deren genaue
+ * Prüfung (z.B. TargetSeeker.collidesWith) der Aufrufer übernimmt.
+ *
+ * Pro Tick: clear(), add() für jedes Objekt, findPairs(). Die Paare sind
+ * sortiert nach (kleinere ID, größere ID), also in derselben Reihenfolge wie
+ * eine doppelte Schleife über alle Paare - die Implementierungen sind damit
+ * gegeneinander austauschbar, ohne dass sich das Spielergebnis ändert.
+ */
+public interface Broadphase {
+
+    void clear();
+
+    /**
+     * @param id frei wählbar, z.B. Index in der Objektliste (nicht negativ)
+     * @param radius Kollisionsradius des Objekts
+     */
+    void add(int id, float x, float y, float radius);
+
+    /**
+     * Sucht alle Kandidatenpaare der eingefügten Objekte
+     * @return Anzahl Kandidatenpaare
+     */
+    int findPairs();
+
+    int size();
+
+    int getPairCount();
+
+    /**
+     * Kleinere ID des k-ten Kandidatenpaars
+     */
+    int getPairA(int k);
+
+    /**
+     * Größere ID des k-ten Kandidatenpaars
+     */
+    int getPairB(int k);
+
+    /**
+     * Kurzer Name für HUD und Benchmarks
+     */
+    String getName();
+}
@@ -0,0 +1,105 @@
+package game.samples.common;
+
+/**
+ * Fester Simulationsschritt unabhängig von der Bildrate.
+ *
+ * Pro Frame advance(frameTime) aufrufen und die Simulation so oft mit getStep()
+ * weiterrechnen, wie advance() zurückgibt. Die übrige Zeit bleibt im Akkumulator
+ * für den nächsten Frame. getAlpha() sagt, wie weit der Frame zwischen dem letzten
+ * und dem nächsten Schritt liegt (0..1) - zum Interpolieren beim Zeichnen.
+ *
+ * Nach einem langsamen Frame (Debugger, Fenster verschoben) werden höchstens
+ * maxStepsPerFrame Schritte nachgeholt, der Rest wird verworfen. Die Simulation
+ * läuft dann kurz langsamer statt mit immer mehr Schritten pro Frame
+ * hinterherzulaufen.
+ */
+public class FixedStepLoop {
+    private final float step;
+    private final int maxStepsPerFrame;
+
+    private float accumulator;
+    private float alpha;
+    private int lastSteps;
+    private long totalSteps;
+    private float droppedTime;
+
+    /**
+     * @param step Simulationsschritt in Sekunden, z.B. 1f / 60f
+     * @param maxStepsPerFrame höchstens so viele Schritte pro Frame
+     */
+    public FixedStepLoop(float step, int maxStepsPerFrame) {
+        if (step <= 0f) throw new IllegalArgumentException("step muss > 0 sein: " + step);
+        if (maxStepsPerFrame < 1) throw new IllegalArgumentException("maxStepsPerFrame muss >= 1 sein: " + maxStepsPerFrame);
+
+        this.step = step;
+        this.maxStepsPerFrame = maxStepsPerFrame;
+    }
+
+    /**
+     * Addiert die Zeit seit dem letzten Frame
+     * @return Anzahl Simulationsschritte für diesen Frame (0..maxStepsPerFrame)
+     */
+    public int advance(float frameTime) {
+        if (frameTime > 0f) {
+            accumulator += frameTime;
+        }
+
+        int steps = 0;
+        while (accumulator >= step && steps < maxStepsPerFrame) {
+            accumulator -= step;
+            steps++;
+        }
+
+        // Nicht mehr aufholbar: nur den Bruchteil eines Schritts behalten
+        if (accumulator >= step) {
+            float dropped = accumulator - accumulator % step;
+            droppedTime += dropped;
+            accumulator -= dropped;
+        }
+
+        alpha = accumulator / step;
+        lastSteps = steps;
+        totalSteps += steps;
+        return steps;
+    }
+
+    /**
+     * Verwirft angesammelte Zeit (z.B. nach einem Reset der Simulation)
+     */
+    public void reset() {
+        accumulator = 0f;
+        alpha = 0f;
+        lastSteps = 0;
+    }
+
+    // Getter
+    public float getStep() {
+        return step;
+    }
+
+    public int getMaxStepsPerFrame() {
+        return maxStepsPerFrame;
+    }
+
+    /**
+     * Anteil des nächsten Schritts, der schon vergangen ist (0..1)
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    public int getLastSteps() {
+        return lastSteps;
+    }
+
+    public long getTotalSteps() {
+        return totalSteps;
+    }
+
+    /**
+     * Insgesamt verworfene Zeit in Sekunden
+     */
+    public float getDroppedTime() {
+        return droppedTime;
+    }
+}
@@ -0,0 +1,69 @@
+package game.samples.common;
+
+/**
+ * Broadphase über ein SpatialHash. Die Zellgröße folgt dem größten
+ * Kollisionsabstand (2 * größter Radius, mindestens minCellSize), damit alle
+ * Kandidaten in derselben oder einer Nachbarzelle liegen.
+ *
+ * Gut bei gleichmäßig dichter Verteilung, unabhängig davon, wie stark sich
+ * die Objekte zwischen zwei Frames bewegen.
+ */
+public class GridBroadphase implements Broadphase {
+    private final SpatialHash grid;
+    private final float minCellSize;
+    private float maxRadius;
+
+    public GridBroadphase(float width, float height, float minCellSize) {
+        this.grid = new SpatialHash(width, height, Math.max(minCellSize, 50f));
+        this.minCellSize = minCellSize;
+    }
+
+    @Override
+    public void clear() {
+        grid.clear();
+        maxRadius = 0f;
+    }
+
+    @Override
+    public void add(int id, float x, float y, float radius) {
+        grid.add(id, x, y);
+        maxRadius = Math.max(maxRadius, radius);
+    }
+
+    @Override
+    public int findPairs() {
+        grid.setCellSize(Math.max(minCellSize, 2f * maxRadius));
+        grid.build();
+        return grid.findPairs();
+    }
+
+    // Getter
+    @Override
+    public int size() {
+        return grid.size();
+    }
+
+    @Override
+    public int getPairCount() {
+        return grid.getPairCount();
+    }
+
+    @Override
+    public int getPairA(int k) {
+        return grid.getPairA(k);
+    }
+
+    @Override
+    public int getPairB(int k) {
+        return grid.getPairB(k);
+    }
+
+    @Override
+    public String getName() {
+        return "Gitter";
+    }
+
+    public SpatialHash getGrid() {
+        return grid;
+    }
+}
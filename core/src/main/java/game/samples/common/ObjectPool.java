@@ -0,0 +1,61 @@
+package game.samples.common;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.function.Supplier;
+
+/**
+ * libGDX-Pool mit Zählern für die HUD-Anzeige (angelegt, in Benutzung, frei).
+ * Objekte nur über obtain()/free()/freeAll() bewegen, damit die Zähler stimmen.
+ */
+public class ObjectPool<T> extends Pool<T> {
+    private final Supplier<T> factory;
+    private int created;
+    private int inUse;
+
+    public ObjectPool(Supplier<T> factory) {
+        this(factory, 16, Integer.MAX_VALUE);
+    }
+
+    public ObjectPool(Supplier<T> factory, int initialCapacity, int max) {
+        super(initialCapacity, max);
+        this.factory = factory;
+    }
+
+    @Override
+    protected T newObject() {
+        created++;
+        return factory.get();
+    }
+
+    @Override
+    public T obtain() {
+        inUse++;
+        return super.obtain();
+    }
+
+    @Override
+    public void free(T object) {
+        inUse--;
+        super.free(object);
+    }
+
+    /**
+     * Gibt alle Objekte zurück (leert die Liste nicht)
+     */
+    @Override
+    public void freeAll(Array<T> objects) {
+        inUse -= objects.size;
+        super.freeAll(objects);
+    }
+
+    // Getter
+    public int getCreated() {
+        return created;
+    }
+
+    public int getInUse() {
+        return inUse;
+    }
+}
@@ -0,0 +1,317 @@
+package game.samples.common;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Gleichmäßiges Gitter über [0, width] x [0, height] für die Broadphase.
+ *
+ * Pro Tick: clear(), add() für jedes Objekt, build(). build() sortiert die
+ * Objekte per Counting Sort nach Zelle in ein int-Array (Zellanfänge +
+ * Objekt-IDs), es entstehen keine Listen pro Zelle. Alle Arrays wachsen
+ * nur und werden wiederverwendet.
+ *
+ * Ist die Zellgröße mindestens so groß wie der größte Kollisionsabstand
+ * (Summe zweier Radien), liegen alle Kandidaten in derselben oder einer
+ * Nachbarzelle.
+ *
+ * findNearest() sucht ringweise um eine Position und liefert dasselbe
+ * Ergebnis wie eine Schleife über alle Objekte in ID-Reihenfolge.
+ */
+public class SpatialHash {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private float width;
+    private float height;
+    private float cellSize;
+    private float inverseCellSize;
+    private int columns;
+    private int rows;
+
+    // Objekte in Einfüge-Reihenfolge
+    private int[] ids;
+    private float[] positionX;
+    private float[] positionY;
+    private int[] itemCell;
+    private int size;
+
+    // Nach Zelle sortiert: Objekte der Zelle c liegen in cellItems[cellStart[c] .. cellStart[c + 1])
+    private int[] cellStart;
+    private int[] cellItems;
+
+    // Kandidatenpaare (kleinere ID << 32 | größere ID)
+    private long[] pairs;
+    private int pairCount;
+
+    public SpatialHash(float width, float height, float cellSize) {
+        ids = new int[INITIAL_CAPACITY];
+        positionX = new float[INITIAL_CAPACITY];
+        positionY = new float[INITIAL_CAPACITY];
+        itemCell = new int[INITIAL_CAPACITY];
+        cellItems = new int[INITIAL_CAPACITY];
+        pairs = new long[INITIAL_CAPACITY];
+        cellStart = new int[0];
+        resize(width, height, cellSize);
+    }
+
+    /**
+     * Neue Weltgröße oder Zellgröße. Eingefügte Objekte bleiben erhalten,
+     * danach muss build() erneut aufgerufen werden.
+     */
+    public void resize(float width, float height, float cellSize) {
+        if (width == this.width && height == this.height && cellSize == this.cellSize) return;
+
+        this.width = width;
+        this.height = height;
+        this.cellSize = cellSize;
+        this.inverseCellSize = 1f / cellSize;
+        this.columns = Math.max(1, (int)Math.ceil(width / cellSize));
+        this.rows = Math.max(1, (int)Math.ceil(height / cellSize));
+
+        int cellCount = columns * rows;
+        if (cellStart.length < cellCount + 1) {
+            cellStart = new int[cellCount + 1];
+        }
+    }
+
+    public void setCellSize(float cellSize) {
+        resize(width, height, cellSize);
+    }
+
+    public void clear() {
+        size = 0;
+        pairCount = 0;
+    }
+
+    /**
+     * Fügt ein Objekt ein (Positionen außerhalb landen in den Randzellen)
+     * @param id frei wählbar, z.B. Index in der Objektliste
+     */
+    public void add(int id, float x, float y) {
+        if (size == ids.length) {
+            grow(size * 2);
+        }
+
+        ids[size] = id;
+        positionX[size] = x;
+        positionY[size] = y;
+        size++;
+    }
+
+    /**
+     * Sortiert alle eingefügten Objekte nach Zelle (mit der aktuellen Zellgröße)
+     */
+    public void build() {
+        int cellCount = columns * rows;
+        Arrays.fill(cellStart, 0, cellCount + 1, 0);
+
+        // Zelle bestimmen und zählen, dann Präfixsumme, dann einsortieren
+        for (int i = 0; i < size; i++) {
+            itemCell[i] = cellIndex(cellX(positionX[i]), cellY(positionY[i]));
+            cellStart[itemCell[i] + 1]++;
+        }
+        for (int c = 0; c < cellCount; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        for (int i = 0; i < size; i++) {
+            int c = itemCell[i];
+            // cellStart[c] dient kurz als Schreibposition und wird unten zurückgesetzt
+            cellItems[cellStart[c]++] = i;
+        }
+        for (int c = cellCount; c > 0; c--) {
+            cellStart[c] = cellStart[c - 1];
+        }
+        cellStart[0] = 0;
+    }
+
+    /**
+     * Sammelt alle Paare aus derselben Zelle und den Nachbarzellen.
+     * Jedes Paar kommt genau einmal vor, sortiert nach (kleinere ID, größere ID) -
+     * also in derselben Reihenfolge wie eine doppelte Schleife über alle Paare.
+     * @return Anzahl Kandidatenpaare
+     */
+    public int findPairs() {
+        pairCount = 0;
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < columns; cx++) {
+                int cell = cellIndex(cx, cy);
+                int start = cellStart[cell];
+                int end = cellStart[cell + 1];
+                if (start == end) continue;
+
+                // Gleiche Zelle
+                for (int a = start; a < end; a++) {
+                    for (int b = a + 1; b < end; b++) {
+                        addPair(cellItems[a], cellItems[b]);
+                    }
+                }
+
+                // Halbe Nachbarschaft (rechts, oben links, oben, oben rechts), damit jedes Paar nur einmal auftaucht
+                pairWithCell(start, end, cx + 1, cy);
+                pairWithCell(start, end, cx - 1, cy + 1);
+                pairWithCell(start, end, cx, cy + 1);
+                pairWithCell(start, end, cx + 1, cy + 1);
+            }
+        }
+
+        Arrays.sort(pairs, 0, pairCount);
+        return pairCount;
+    }
+
+    /**
+     * Nächstes Objekt mit Abstand <= range, ohne excludeId. Bei gleichem Abstand
+     * gewinnt die kleinere ID. Erst nach build() aufrufen.
+     *
+     * Durchsucht Ringe von Zellen um (x, y) und hört auf, sobald der nächste
+     * Ring weiter entfernt ist als der beste Treffer oder range.
+     * @return ID oder -1
+     */
+    public int findNearest(float x, float y, float range, int excludeId) {
+        int centerX = cellX(x);
+        int centerY = cellY(y);
+        int maxRing = Math.max(Math.max(centerX, columns - 1 - centerX), Math.max(centerY, rows - 1 - centerY));
+
+        int bestId = -1;
+        float bestDistance = Float.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            // Jeder Punkt in diesem Ring ist mindestens (ring - 1) Zellen entfernt
+            float ringDistance = (ring - 1) * cellSize;
+            if (ringDistance > range || ringDistance > bestDistance) break;
+
+            int minX = centerX - ring;
+            int maxX = centerX + ring;
+            int minY = centerY - ring;
+            int maxY = centerY + ring;
+            for (int cy = Math.max(0, minY); cy <= Math.min(rows - 1, maxY); cy++) {
+                // Innere Zeilen: nur linker und rechter Rand des Rings
+                boolean edgeRow = cy == minY || cy == maxY;
+                int step = edgeRow ? 1 : Math.max(1, maxX - minX);
+                for (int cx = minX; cx <= maxX; cx += step) {
+                    if (cx < 0 || cx >= columns) continue;
+
+                    int cell = cellIndex(cx, cy);
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        int item = cellItems[k];
+                        int id = ids[item];
+                        if (id == excludeId) continue;
+
+                        float dx = positionX[item] - x;
+                        float dy = positionY[item] - y;
+                        float distance = (float)Math.sqrt(dx * dx + dy * dy);
+                        if (distance <= range && (distance < bestDistance || (distance == bestDistance && id < bestId))) {
+                            bestId = id;
+                            bestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return bestId;
+    }
+
+    /**
+     * Alle Objekte aus Zellen, die das Rechteck berühren (also eine Obermenge
+     * der Objekte im Rechteck), aufsteigend nach ID. Erst nach build() aufrufen.
+     * @return Anzahl gefundener IDs
+     */
+    public int query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        out.clear();
+        int fromX = cellX(minX);
+        int toX = cellX(maxX);
+        int fromY = cellY(minY);
+        int toY = cellY(maxY);
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                int cell = cellIndex(cx, cy);
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    out.add(ids[cellItems[k]]);
+                }
+            }
+        }
+        out.sort();
+        return out.size;
+    }
+
+    private void pairWithCell(int start, int end, int cx, int cy) {
+        if (cx < 0 || cx >= columns || cy >= rows) return;
+
+        int cell = cellIndex(cx, cy);
+        int otherStart = cellStart[cell];
+        int otherEnd = cellStart[cell + 1];
+        for (int a = start; a < end; a++) {
+            for (int b = otherStart; b < otherEnd; b++) {
+                addPair(cellItems[a], cellItems[b]);
+            }
+        }
+    }
+
+    private void addPair(int itemA, int itemB) {
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount * 2);
+        }
+
+        int a = ids[itemA];
+        int b = ids[itemB];
+        pairs[pairCount++] = a < b
+            ? ((long) a << 32) | (b & 0xFFFFFFFFL)
+            : ((long) b << 32) | (a & 0xFFFFFFFFL);
+    }
+
+    private int cellX(float x) {
+        int cx = (int)(x * inverseCellSize);
+        return Math.max(0, Math.min(columns - 1, cx));
+    }
+
+    private int cellY(float y) {
+        int cy = (int)(y * inverseCellSize);
+        return Math.max(0, Math.min(rows - 1, cy));
+    }
+
+    private int cellIndex(int cx, int cy) {
+        return cy * columns + cx;
+    }
+
+    private void grow(int capacity) {
+        ids = Arrays.copyOf(ids, capacity);
+        positionX = Arrays.copyOf(positionX, capacity);
+        positionY = Arrays.copyOf(positionY, capacity);
+        itemCell = Arrays.copyOf(itemCell, capacity);
+        cellItems = Arrays.copyOf(cellItems, capacity);
+    }
+
+    // Getter
+    public int size() {
+        return size;
+    }
+
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    /**
+     * Kleinere ID des k-ten Kandidatenpaars
+     */
+    public int getPairA(int k) {
+        return (int)(pairs[k] >>> 32);
+    }
+
+    /**
+     * Größere ID des k-ten Kandidatenpaars
+     */
+    public int getPairB(int k) {
+        return (int) pairs[k];
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,201 @@
+package game.samples.common;
+
+import java.util.Arrays;
+
+/**
+ * Sweep-and-Prune-Broadphase auf der x-Achse mit über Frames erhaltener Sortierung.
+ *
+ * Jedes Objekt ist ein Rechteck um seinen Kreis. Die Reihenfolge der IDs nach
+ * linker Kante (minX) bleibt von Frame zu Frame erhalten und wird per
+ * Insertion Sort nachsortiert. Bewegen sich die Objekte nur wenig, ändert sich
+ * die Reihenfolge kaum und das Sortieren kostet nahezu O(n). Danach reicht ein
+ * Durchlauf: Partner von a sind alle folgenden Objekte mit minX <= maxX(a),
+ * übrig bleiben die, deren y-Intervall sich ebenfalls überlappt.
+ *
+ * Die Sortierung hängt an der ID: Bleiben die IDs eines Objekts über Frames
+ * gleich, bleibt auch der Vorteil erhalten. Ändern sie sich (z.B. Listenindex
+ * nach dem Entfernen), ist das Ergebnis trotzdem korrekt, nur das Sortieren
+ * teurer. Alle Arrays wachsen nur und werden wiederverwendet.
+ */
+public class SweepAndPrune implements Broadphase {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Pro ID
+    private float[] minX;
+    private float[] maxX;
+    private float[] minY;
+    private float[] maxY;
+    private int[] addedFrame;
+    private boolean[] inOrder;
+
+    // IDs dieses Frames in Einfüge-Reihenfolge
+    private int[] added;
+    private int size;
+    private int frame = 1;
+
+    // IDs sortiert nach minX (bleibt über Frames erhalten)
+    private int[] order;
+    private int orderSize;
+    private int swapCount;
+
+    // Kandidatenpaare (kleinere ID << 32 | größere ID)
+    private long[] pairs;
+    private int pairCount;
+
+    public SweepAndPrune() {
+        minX = new float[INITIAL_CAPACITY];
+        maxX = new float[INITIAL_CAPACITY];
+        minY = new float[INITIAL_CAPACITY];
+        maxY = new float[INITIAL_CAPACITY];
+        addedFrame = new int[INITIAL_CAPACITY];
+        inOrder = new boolean[INITIAL_CAPACITY];
+        added = new int[INITIAL_CAPACITY];
+        order = new int[INITIAL_CAPACITY];
+        pairs = new long[INITIAL_CAPACITY];
+    }
+
+    @Override
+    public void clear() {
+        frame++;
+        size = 0;
+        pairCount = 0;
+    }
+
+    @Override
+    public void add(int id, float x, float y, float radius) {
+        if (id >= addedFrame.length) {
+            growIds(Math.max(id + 1, addedFrame.length * 2));
+        }
+        if (size == added.length) {
+            added = Arrays.copyOf(added, size * 2);
+        }
+
+        minX[id] = x - radius;
+        maxX[id] = x + radius;
+        minY[id] = y - radius;
+        maxY[id] = y + radius;
+        addedFrame[id] = frame;
+        added[size++] = id;
+    }
+
+    @Override
+    public int findPairs() {
+        updateOrder();
+        sortOrder();
+
+        pairCount = 0;
+        for (int i = 0; i < orderSize; i++) {
+            int a = order[i];
+            float right = maxX[a];
+            for (int j = i + 1; j < orderSize; j++) {
+                int b = order[j];
+                // Alle weiteren liegen noch weiter rechts
+                if (minX[b] > right) break;
+
+                if (minY[b] <= maxY[a] && minY[a] <= maxY[b]) {
+                    addPair(a, b);
+                }
+            }
+        }
+
+        Arrays.sort(pairs, 0, pairCount);
+        return pairCount;
+    }
+
+    /**
+     * Entfernt IDs, die in diesem Frame fehlen, und hängt neue hinten an
+     */
+    private void updateOrder() {
+        if (orderSize + size > order.length) {
+            order = Arrays.copyOf(order, Math.max(order.length * 2, orderSize + size));
+        }
+
+        int kept = 0;
+        for (int i = 0; i < orderSize; i++) {
+            int id = order[i];
+            if (addedFrame[id] == frame) {
+                order[kept++] = id;
+            } else {
+                inOrder[id] = false;
+            }
+        }
+        for (int k = 0; k < size; k++) {
+            int id = added[k];
+            if (!inOrder[id]) {
+                order[kept++] = id;
+                inOrder[id] = true;
+            }
+        }
+        orderSize = kept;
+    }
+
+    /**
+     * Insertion Sort nach minX (bei Gleichstand nach ID), fast sortiert = fast linear
+     */
+    private void sortOrder() {
+        swapCount = 0;
+        for (int i = 1; i < orderSize; i++) {
+            int id = order[i];
+            float key = minX[id];
+            int j = i - 1;
+            while (j >= 0 && (minX[order[j]] > key || (minX[order[j]] == key && order[j] > id))) {
+                order[j + 1] = order[j];
+                j--;
+                swapCount++;
+            }
+            order[j + 1] = id;
+        }
+    }
+
+    private void addPair(int a, int b) {
+        if (pairCount == pairs.length) {
+            pairs = Arrays.copyOf(pairs, pairCount * 2);
+        }
+
+        pairs[pairCount++] = a < b
+            ? ((long) a << 32) | (b & 0xFFFFFFFFL)
+            : ((long) b << 32) | (a & 0xFFFFFFFFL);
+    }
+
+    private void growIds(int capacity) {
+        minX = Arrays.copyOf(minX, capacity);
+        maxX = Arrays.copyOf(maxX, capacity);
+        minY = Arrays.copyOf(minY, capacity);
+        maxY = Arrays.copyOf(maxY, capacity);
+        addedFrame = Arrays.copyOf(addedFrame, capacity);
+        inOrder = Arrays.copyOf(inOrder, capacity);
+    }
+
+    // Getter
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getPairCount() {
+        return pairCount;
+    }
+
+    @Override
+    public int getPairA(int k) {
+        return (int)(pairs[k] >>> 32);
+    }
+
+    @Override
+    public int getPairB(int k) {
+        return (int) pairs[k];
+    }
+
+    @Override
+    public String getName() {
+        return "Sweep & Prune";
+    }
+
+    /**
+     * Verschiebungen beim letzten Nachsortieren (0 = Reihenfolge unverändert)
+     */
+    public int getSwapCount() {
+        return swapCount;
+    }
+}
@@ -0,0 +1,38 @@
+package game.samples.common;
+
+/**
+ * Kontinuierlicher Kreis-gegen-Kreis-Test: ein Kreis bewegt sich in einem
+ * Frame von (startX, startY) nach (endX, endY), das Ziel steht still.
+ * Findet auch Treffer, die zwischen zwei Frames liegen (kein Durchtunneln).
+ */
+public final class SweptCircle {
+    private SweptCircle() {
+    }
+
+    /**
+     * @param radius Summe beider Radien
+     * @return Zeitpunkt der ersten Berührung entlang der Bewegung (0..1) oder -1
+     */
+    public static float timeOfImpact(float startX, float startY, float endX, float endY,
+                                     float targetX, float targetY, float radius) {
+        float fx = startX - targetX;
+        float fy = startY - targetY;
+        float c = fx * fx + fy * fy - radius * radius;
+        if (c < 0f) return 0f; // Überlappt schon am Anfang
+
+        float dx = endX - startX;
+        float dy = endY - startY;
+        float a = dx * dx + dy * dy;
+        if (a == 0f) return -1f;
+
+        // |f + t * d|^2 = r^2  ->  a t^2 + b t + c = 0
+        float b = 2f * (fx * dx + fy * dy);
+        if (b >= 0f) return -1f; // Bewegt sich nicht auf das Ziel zu
+
+        float discriminant = b * b - 4f * a * c;
+        if (discriminant < 0f) return -1f;
+
+        float t = (-b - (float)Math.sqrt(discriminant)) / (2f * a);
+        return t <= 1f ? t : -1f;
+    }
+}
@@ -0,0 +1,113 @@
+package game.samples.common;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Sammelt gedrehte Dreiecke (Spitze in Blickrichtung) als Vertex-Strom
+ * x1, y1, x2, y2, x3, y3 in einem float[] und zeichnet sie gemeinsam.
+ *
+ * Pro Dreieck wird Sinus/Kosinus nur einmal bestimmt, es entstehen keine
+ * Objekte. Die Arrays wachsen bei Bedarf und werden nicht verkleinert.
+ */
+public class TriangleBatch {
+    private static final int FLOATS_PER_TRIANGLE = 6;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private float[] vertices;
+    private int[] colors; // RGBA8888 pro Dreieck
+    private int count;
+
+    private final Color tmpColor = new Color();
+
+    public TriangleBatch() {
+        vertices = new float[INITIAL_CAPACITY * FLOATS_PER_TRIANGLE];
+        colors = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Dreieck um (x, y): Spitze bei size vorne, Heck bei size/2 hinten und size/2 seitlich
+     * @param rotation Blickrichtung in Grad (0 = nach rechts)
+     * @param rgba Farbe als RGBA8888
+     */
+    public void add(float x, float y, float size, float rotation, int rgba) {
+        if (count == colors.length) {
+            grow(count * 2);
+        }
+
+        float cos = MathUtils.cosDeg(rotation);
+        float sin = MathUtils.sinDeg(rotation);
+        float halfSize = size / 2f;
+
+        // Heck-Ecken: (-h, +h) und (-h, -h) gedreht
+        float backX = -halfSize * cos;
+        float backY = -halfSize * sin;
+        float sideX = -halfSize * sin;
+        float sideY = halfSize * cos;
+
+        int v = count * FLOATS_PER_TRIANGLE;
+        vertices[v] = x + size * cos;
+        vertices[v + 1] = y + size * sin;
+        vertices[v + 2] = x + backX + sideX;
+        vertices[v + 3] = y + backY + sideY;
+        vertices[v + 4] = x + backX - sideX;
+        vertices[v + 5] = y + backY - sideY;
+        colors[count] = rgba;
+        count++;
+    }
+
+    public void add(float x, float y, float size, float rotation, float r, float g, float b, float a) {
+        add(x, y, size, rotation, Color.rgba8888(r, g, b, a));
+    }
+
+    public void add(float x, float y, float size, float rotation, Color color) {
+        add(x, y, size, rotation, Color.rgba8888(color));
+    }
+
+    /**
+     * Zeichnet alle gesammelten Dreiecke (renderer muss im Filled- oder Line-Modus laufen) und leert den Batch
+     */
+    public void draw(ShapeRenderer renderer) {
+        int lastColor = 0;
+        for (int i = 0; i < count; i++) {
+            int rgba = colors[i];
+            if (i == 0 || rgba != lastColor) {
+                Color.rgba8888ToColor(tmpColor, rgba);
+                renderer.setColor(tmpColor);
+                lastColor = rgba;
+            }
+
+            int v = i * FLOATS_PER_TRIANGLE;
+            renderer.triangle(vertices[v], vertices[v + 1], vertices[v + 2],
+                vertices[v + 3], vertices[v + 4], vertices[v + 5]);
+        }
+        count = 0;
+    }
+
+    public void clear() {
+        count = 0;
+    }
+
+    private void grow(int capacity) {
+        float[] newVertices = new float[capacity * FLOATS_PER_TRIANGLE];
+        System.arraycopy(vertices, 0, newVertices, 0, count * FLOATS_PER_TRIANGLE);
+        vertices = newVertices;
+
+        int[] newColors = new int[capacity];
+        System.arraycopy(colors, 0, newColors, 0, count);
+        colors = newColors;
+    }
+
+    // Getter
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Vertex-Strom (6 Werte pro Dreieck, gültig bis size() * 6)
+     */
+    public float[] getVertices() {
+        return vertices;
+    }
+}
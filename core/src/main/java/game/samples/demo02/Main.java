@@ -9,9 +9,11 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.CatmullRomSpline;
 import com.badlogic.gdx.math.Vector2;
+import game.samples.common.TriangleBatch;
 
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
 
@@ -23,6 +25,7 @@ public class Main extends ApplicationAdapter {
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(2f);
@@ -86,7 +89,8 @@ public class Main extends ApplicationAdapter {
 
         // Zeichne Dreieck
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        splineObject.render(shapeRenderer);
+        splineObject.render(triangles);
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
@@ -1,8 +1,8 @@
 package game.samples.demo02;
 
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.CatmullRomSpline;
 import com.badlogic.gdx.math.Vector2;
+import game.samples.common.TriangleBatch;
 
 public class SplineObject {
     private CatmullRomSpline<Vector2> spline;
@@ -118,51 +118,8 @@ public class SplineObject {
     /**
      * Zeichnet das Dreieck
      */
-    public void render(ShapeRenderer renderer) {
-        renderer.setColor(r, g, b, a);
-
-        // Dreieck-Vertices berechnen (zeigt nach rechts bei 0°)
-        float halfSize = size / 2f;
-
-        // Spitze (vorne)
-        float x1 = position.x + size;
-        float y1 = position.y;
-
-        // Linke hintere Ecke
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
-
-        // Rechte hintere Ecke
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
-
-        // Rotiere Punkte um die Position
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
-
-        // Zeichne Dreieck
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
-    }
-
-    /**
-     * Rotiert einen Punkt um einen Mittelpunkt
-     */
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = (float) Math.toRadians(angleDeg);
-        float cos = (float) Math.cos(angleRad);
-        float sin = (float) Math.sin(angleRad);
-
-        // Verschiebe zum Ursprung
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
-
-        // Rotiere
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
-
-        // Verschiebe zurück
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
+    public void render(TriangleBatch triangles) {
+        triangles.add(position.x, position.y, size, rotation, r, g, b, a);
     }
 
     /**
@@ -13,10 +13,12 @@ import com.badlogic.gdx.math.CatmullRomSpline;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.TriangleBatch;
 
 
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
     private Viewport viewport;
@@ -33,6 +35,7 @@ public class Main extends ApplicationAdapter {
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.5f);
@@ -117,7 +120,8 @@ public class Main extends ApplicationAdapter {
             splineObject.setColor(0, 1, 0, 1); // Grün beim Bewegen
         }
 
-        splineObject.render(shapeRenderer);
+        splineObject.render(triangles);
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
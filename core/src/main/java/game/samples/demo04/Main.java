@@ -9,14 +9,18 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.TriangleBatch;
 
 /**
  * einheit sucht sich ein ziel und bewegt sich darauf zu
  */
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
     private Viewport viewport;
@@ -27,9 +31,13 @@ public class Main extends ApplicationAdapter {
 
     private TargetSeeker seeker;
 
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.5f);
@@ -52,14 +60,19 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
-
         handleInput();
-        seeker.update(deltaTime);
+
+        int steps = loop.advance(Gdx.graphics.getDeltaTime());
+        for (int i = 0; i < steps; i++) {
+            seeker.update(loop.getStep());
+        }
 
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Zwischen zwei Simulationsschritten interpolieren
+        float alpha = loop.getAlpha();
+
         viewport.apply();
         camera.update();
         shapeRenderer.setProjectionMatrix(camera.combined);
@@ -74,9 +87,10 @@ public class Main extends ApplicationAdapter {
         shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
         shapeRenderer.setColor(1, 1, 0, 0.3f);
         Gdx.gl.glLineWidth(2);
+        Vector2 drawPosition = seeker.getRenderPosition(alpha);
         shapeRenderer.line(
-            seeker.getPosition().x,
-            seeker.getPosition().y,
+            drawPosition.x,
+            drawPosition.y,
             seeker.getTarget().x,
             seeker.getTarget().y
         );
@@ -92,7 +106,8 @@ public class Main extends ApplicationAdapter {
             seeker.setColor(0, 1, 0, 1); // Grün beim Bewegen
         }
 
-        seeker.render(shapeRenderer);
+        seeker.render(triangles, alpha);
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
@@ -10,8 +10,11 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.TriangleBatch;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +24,7 @@ import java.util.List;
  */
 public class Main2 extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
     private Viewport viewport;
@@ -31,9 +35,13 @@ public class Main2 extends ApplicationAdapter {
 
     private List<TargetSeeker> seekers;
 
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.5f);
@@ -64,18 +72,22 @@ public class Main2 extends ApplicationAdapter {
 
     @Override
     public void render() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
-
         handleInput();
 
         // Update alle Seeker
-        for (TargetSeeker seeker : seekers) {
-            seeker.update(deltaTime);
+        int steps = loop.advance(Gdx.graphics.getDeltaTime());
+        for (int i = 0; i < steps; i++) {
+            for (TargetSeeker seeker : seekers) {
+                seeker.update(loop.getStep());
+            }
         }
 
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Zwischen zwei Simulationsschritten interpolieren
+        float alpha = loop.getAlpha();
+
         viewport.apply();
         camera.update();
         shapeRenderer.setProjectionMatrix(camera.combined);
@@ -93,9 +105,10 @@ public class Main2 extends ApplicationAdapter {
         Gdx.gl.glLineWidth(1);
         for (TargetSeeker seeker : seekers) {
             shapeRenderer.setColor(1, 1, 0, 0.2f);
+            Vector2 drawPosition = seeker.getRenderPosition(alpha);
             shapeRenderer.line(
-                seeker.getPosition().x,
-                seeker.getPosition().y,
+                drawPosition.x,
+                drawPosition.y,
                 seeker.getTarget().x,
                 seeker.getTarget().y
             );
@@ -105,8 +118,9 @@ public class Main2 extends ApplicationAdapter {
         // Zeichne Dreiecke
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         for (TargetSeeker seeker : seekers) {
-            seeker.render(shapeRenderer);
+            seeker.render(triangles, alpha);
         }
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
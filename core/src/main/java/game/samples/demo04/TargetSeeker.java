@@ -3,6 +3,7 @@ package game.samples.demo04;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import game.samples.common.TriangleBatch;
 
 public class TargetSeeker {
     private Vector2 position;
@@ -10,6 +11,11 @@ public class TargetSeeker {
     private float rotation; // Aktuelle Rotation in Grad
     private float targetRotation; // Ziel-Rotation in Grad
 
+    // Zustand vor dem letzten Schritt, zum Interpolieren beim Zeichnen
+    private Vector2 previousPosition;
+    private float previousRotation;
+    private Vector2 renderPosition;
+
     // Eigenschaften
     private float size;
     private float moveSpeed; // Pixel pro Sekunde
@@ -41,6 +47,8 @@ public class TargetSeeker {
 
         this.position = new Vector2();
         this.target = new Vector2();
+        this.previousPosition = new Vector2();
+        this.renderPosition = new Vector2();
         this.rotation = 0f;
         this.targetRotation = 0f;
         this.state = State.ROTATING;
@@ -53,6 +61,8 @@ public class TargetSeeker {
 
         // Zufällige Startposition
         randomizePosition();
+        previousPosition.set(position);
+        previousRotation = rotation;
 
         // Erstes Ziel
         generateNewTarget();
@@ -62,6 +72,9 @@ public class TargetSeeker {
      * Update-Logik
      */
     public void update(float deltaTime) {
+        previousPosition.set(position);
+        previousRotation = rotation;
+
         switch (state) {
             case ROTATING:
                 updateRotation(deltaTime);
@@ -174,32 +187,26 @@ public class TargetSeeker {
     }
 
     /**
-     * Zeichnet das Dreieck und das Ziel
+     * Zeichnet das Dreieck zwischen letztem und aktuellem Schritt
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
      */
-    public void render(ShapeRenderer renderer) {
-        // Zeichne Dreieck
-        renderer.setColor(r, g, b, a);
-
-        float halfSize = size / 2f;
-
-        // Spitze (vorne)
-        float x1 = position.x + size;
-        float y1 = position.y;
+    public void render(TriangleBatch triangles, float alpha) {
+        Vector2 drawPosition = getRenderPosition(alpha);
 
-        // Linke hintere Ecke
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
+        // Kürzester Weg zwischen den beiden Winkeln
+        float diff = rotation - previousRotation;
+        if (diff > 180f) diff -= 360f;
+        if (diff < -180f) diff += 360f;
+        float drawRotation = previousRotation + diff * alpha;
 
-        // Rechte hintere Ecke
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
-
-        // Rotiere Punkte
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
+        triangles.add(drawPosition.x, drawPosition.y, size, drawRotation, r, g, b, a);
+    }
 
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
+    /**
+     * Position zwischen letztem und aktuellem Schritt (wird wiederverwendet)
+     */
+    public Vector2 getRenderPosition(float alpha) {
+        return renderPosition.set(previousPosition).lerp(position, alpha);
     }
 
     /**
@@ -216,23 +223,6 @@ public class TargetSeeker {
         renderer.line(target.x, target.y - crossSize, target.x, target.y + crossSize);
     }
 
-    /**
-     * Rotiert einen Punkt um einen Mittelpunkt
-     */
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = (float) Math.toRadians(angleDeg);
-        float cos = (float) Math.cos(angleRad);
-        float sin = (float) Math.sin(angleRad);
-
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
-
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
-
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
-    }
-
     // Setter
     public void setColor(float r, float g, float b, float a) {
         this.r = r;
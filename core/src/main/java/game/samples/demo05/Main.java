@@ -11,11 +11,17 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.Broadphase;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.GridBroadphase;
+import game.samples.common.ObjectPool;
+import game.samples.common.SweepAndPrune;
+import game.samples.common.TriangleBatch;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -23,6 +29,7 @@ import java.util.List;
  */
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
     private Viewport viewport;
@@ -32,17 +39,28 @@ public class Main extends ApplicationAdapter {
     private static final float VIRTUAL_HEIGHT = 600f;
 
     private List<TargetSeeker> seekers;
-    private List<Explosion> explosions;
+    private Array<Explosion> explosions; // ungeordnet: Entfernen tauscht mit dem letzten Element
+    private ObjectPool<Explosion> explosionPool;
 
     private int totalSpawned;
     private int totalDestroyed;
     private boolean showCollisionRadius;
 
+    // Broadphase für Kollisionen (B wechselt zwischen Gitter und Sweep & Prune)
+    private static final float MIN_COLLISION_CELL = 8f;
+    private Broadphase[] broadphases;
+    private int broadphaseIndex;
+    private int candidatePairs;
+
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     private Sound collisionSound; // Optional
 
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.5f);
@@ -52,7 +70,12 @@ public class Main extends ApplicationAdapter {
         viewport = new FitViewport(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, camera);
 
         seekers = new ArrayList<>();
-        explosions = new ArrayList<>();
+        explosions = new Array<>(false, 16);
+        explosionPool = new ObjectPool<>(Explosion::new);
+        broadphases = new Broadphase[] {
+            new GridBroadphase(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, MIN_COLLISION_CELL),
+            new SweepAndPrune()
+        };
 
         showCollisionRadius = false;
         totalSpawned = 0;
@@ -82,15 +105,20 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
-
         handleInput();
-        updateGame(deltaTime);
-        checkCollisions();
+
+        int steps = loop.advance(Gdx.graphics.getDeltaTime());
+        for (int i = 0; i < steps; i++) {
+            updateGame(loop.getStep());
+            checkCollisions();
+        }
 
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Zwischen zwei Simulationsschritten interpolieren
+        float alpha = loop.getAlpha();
+
         viewport.apply();
         camera.update();
         shapeRenderer.setProjectionMatrix(camera.combined);
@@ -109,9 +137,10 @@ public class Main extends ApplicationAdapter {
         for (TargetSeeker seeker : seekers) {
             if (!seeker.isDestroyed()) {
                 shapeRenderer.setColor(1, 1, 0, 0.2f);
+                Vector2 drawPosition = seeker.getRenderPosition(alpha);
                 shapeRenderer.line(
-                    seeker.getPosition().x,
-                    seeker.getPosition().y,
+                    drawPosition.x,
+                    drawPosition.y,
                     seeker.getTarget().x,
                     seeker.getTarget().y
                 );
@@ -124,36 +153,41 @@ public class Main extends ApplicationAdapter {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
             Gdx.gl.glLineWidth(1);
             for (TargetSeeker seeker : seekers) {
-                seeker.renderCollisionRadius(shapeRenderer);
+                seeker.renderCollisionRadius(shapeRenderer, alpha);
             }
             shapeRenderer.end();
         }
 
         // Zeichne Explosionen
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Explosion explosion : explosions) {
-            explosion.render(shapeRenderer);
+        for (int i = 0; i < explosions.size; i++) {
+            explosions.get(i).render(shapeRenderer);
         }
         shapeRenderer.end();
 
         // Zeichne Dreiecke
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         for (TargetSeeker seeker : seekers) {
-            seeker.render(shapeRenderer);
+            seeker.render(triangles, alpha);
         }
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
         batch.begin();
-        font.draw(batch, "SPACE = Neues Dreieck spawnen", 20, 580);
+        font.draw(batch, "SPACE = Neues Dreieck spawnen (Shift = 100)", 20, 580);
         font.draw(batch, "C = Kollisionsradius zeigen (Toggle)", 20, 555);
         font.draw(batch, "R = Reset", 20, 530);
+        font.draw(batch, "B = Broadphase wechseln", 20, 505);
 
         font.setColor(Color.YELLOW);
         font.draw(batch, "Aktiv: " + seekers.size(), 20, 150);
         font.draw(batch, "Gespawnt: " + totalSpawned, 20, 125);
         font.draw(batch, "Zerstört: " + totalDestroyed, 20, 100);
         font.draw(batch, "Kollisionsradius: " + (showCollisionRadius ? "AN" : "AUS"), 20, 75);
+        font.draw(batch, "Kollisionspaare geprüft: " + candidatePairs + " (" + broadphases[broadphaseIndex].getName() + ")", 20, 50);
+        font.draw(batch, "Explosionen: " + explosions.size + " (Pool: " + explosionPool.getFree() + " frei, " +
+            explosionPool.getCreated() + " angelegt)", 20, 25);
 
         font.setColor(Color.WHITE);
         batch.end();
@@ -162,10 +196,13 @@ public class Main extends ApplicationAdapter {
     private void handleInput() {
         // Neues Dreieck spawnen
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            float r = (float) Math.random();
-            float g = (float) Math.random();
-            float b = (float) Math.random();
-            spawnSeeker(r, g, b, 1f);
+            int count = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) ? 100 : 1;
+            for (int i = 0; i < count; i++) {
+                float r = (float) Math.random();
+                float g = (float) Math.random();
+                float b = (float) Math.random();
+                spawnSeeker(r, g, b, 1f);
+            }
         }
 
         // Kollisionsradius anzeigen
@@ -173,9 +210,15 @@ public class Main extends ApplicationAdapter {
             showCollisionRadius = !showCollisionRadius;
         }
 
+        // Broadphase wechseln (Ergebnis bleibt gleich, nur die Anzahl geprüfter Paare ändert sich)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.B)) {
+            broadphaseIndex = (broadphaseIndex + 1) % broadphases.length;
+        }
+
         // Reset
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
             seekers.clear();
+            explosionPool.freeAll(explosions);
             explosions.clear();
             totalSpawned = 0;
             totalDestroyed = 0;
@@ -192,60 +235,68 @@ public class Main extends ApplicationAdapter {
             seeker.update(deltaTime);
         }
 
-        // Update Explosionen
-        Iterator<Explosion> expIter = explosions.iterator();
-        while (expIter.hasNext()) {
-            Explosion explosion = expIter.next();
+        // Update Explosionen (rückwärts, damit nach dem Tausch-Entfernen nichts übersprungen wird)
+        for (int i = explosions.size - 1; i >= 0; i--) {
+            Explosion explosion = explosions.get(i);
             explosion.update(deltaTime);
 
             if (explosion.isFinished()) {
-                expIter.remove();
+                explosionPool.free(explosions.removeIndex(i));
             }
         }
     }
 
-    private void checkCollisions() {
-        List<TargetSeeker> toRemove = new ArrayList<>();
+    private void spawnExplosion(float x, float y) {
+        Explosion explosion = explosionPool.obtain();
+        explosion.init(x, y);
+        explosions.add(explosion);
+    }
 
-        // Prüfe alle Paare von Seekern
+    private void checkCollisions() {
+        // Broadphase: nur Paare, die nah genug beieinander liegen
+        Broadphase broadphase = broadphases[broadphaseIndex];
+        candidatePairs = 0;
+        broadphase.clear();
         for (int i = 0; i < seekers.size(); i++) {
-            TargetSeeker seeker1 = seekers.get(i);
-            if (seeker1.isDestroyed()) continue;
+            TargetSeeker seeker = seekers.get(i);
+            if (seeker.isDestroyed()) continue;
 
-            for (int j = i + 1; j < seekers.size(); j++) {
-                TargetSeeker seeker2 = seekers.get(j);
-                if (seeker2.isDestroyed()) continue;
+            broadphase.add(i, seeker.getPosition().x, seeker.getPosition().y, seeker.getCollisionRadius());
+        }
+        if (broadphase.size() < 2) return;
 
-                // Prüfe Kollision
-                if (seeker1.collidesWith(seeker2)) {
-                    // Markiere beide als zerstört
-                    seeker1.destroy();
-                    seeker2.destroy();
+        candidatePairs = broadphase.findPairs();
 
-                    toRemove.add(seeker1);
-                    toRemove.add(seeker2);
+        // Paare kommen in derselben Reihenfolge wie bei der Prüfung aller Paare
+        boolean destroyed = false;
+        for (int k = 0; k < candidatePairs; k++) {
+            TargetSeeker seeker1 = seekers.get(broadphase.getPairA(k));
+            TargetSeeker seeker2 = seekers.get(broadphase.getPairB(k));
 
-                    // Erstelle Explosion
-                    Vector2 collisionPoint = new Vector2(seeker1.getPosition())
-                        .add(seeker2.getPosition())
-                        .scl(0.5f); // Mittelpunkt zwischen beiden
+            if (seeker1.collidesWith(seeker2)) {
+                seeker1.destroy();
+                seeker2.destroy();
+                destroyed = true;
 
-                    explosions.add(new Explosion(collisionPoint.x, collisionPoint.y));
+                // Explosion im Mittelpunkt zwischen beiden
+                Vector2 position1 = seeker1.getPosition();
+                Vector2 position2 = seeker2.getPosition();
+                spawnExplosion((position1.x + position2.x) * 0.5f, (position1.y + position2.y) * 0.5f);
 
-                    // Spiele Sound
-                    if (collisionSound != null) {
-                        collisionSound.play(0.5f);
-                    }
+                if (collisionSound != null) {
+                    collisionSound.play(0.5f);
+                }
 
-                    totalDestroyed += 2;
+                totalDestroyed += 2;
 
-                    System.out.println("KOLLISION! " + totalDestroyed + " Dreiecke zerstört.");
-                }
+                System.out.println("KOLLISION! " + totalDestroyed + " Dreiecke zerstört.");
             }
         }
 
         // Entferne zerstörte Seeker
-        seekers.removeAll(toRemove);
+        if (destroyed) {
+            seekers.removeIf(TargetSeeker::isDestroyed);
+        }
     }
 
     @Override
@@ -3,6 +3,7 @@ package game.samples.demo05;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import game.samples.common.TriangleBatch;
 
 public class TargetSeeker {
     private Vector2 position;
@@ -10,6 +11,11 @@ public class TargetSeeker {
     private float rotation;
     private float targetRotation;
 
+    // Zustand vor dem letzten Schritt, zum Interpolieren beim Zeichnen
+    private Vector2 previousPosition;
+    private float previousRotation;
+    private Vector2 renderPosition;
+
     private float size;
     private float moveSpeed;
     private float rotationSpeed;
@@ -41,6 +47,8 @@ public class TargetSeeker {
 
         this.position = new Vector2();
         this.target = new Vector2();
+        this.previousPosition = new Vector2();
+        this.renderPosition = new Vector2();
         this.rotation = 0f;
         this.targetRotation = 0f;
         this.state = State.ROTATING;
@@ -55,12 +63,17 @@ public class TargetSeeker {
         this.a = 1f;
 
         randomizePosition();
+        previousPosition.set(position);
+        previousRotation = rotation;
         generateNewTarget();
     }
 
     public void update(float deltaTime) {
         if (isDestroyed) return;
 
+        previousPosition.set(position);
+        previousRotation = rotation;
+
         switch (state) {
             case ROTATING:
                 updateRotation(deltaTime);
@@ -158,37 +171,38 @@ public class TargetSeeker {
         this.isDestroyed = true;
     }
 
-    public void render(ShapeRenderer renderer) {
+    /**
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
+     */
+    public void render(TriangleBatch triangles, float alpha) {
         if (isDestroyed) return;
 
-        renderer.setColor(r, g, b, a);
+        Vector2 drawPosition = getRenderPosition(alpha);
 
-        float halfSize = size / 2f;
+        // Kürzester Weg zwischen den beiden Winkeln
+        float diff = rotation - previousRotation;
+        if (diff > 180f) diff -= 360f;
+        if (diff < -180f) diff += 360f;
 
-        float x1 = position.x + size;
-        float y1 = position.y;
-
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
-
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
-
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
+        triangles.add(drawPosition.x, drawPosition.y, size, previousRotation + diff * alpha, r, g, b, a);
+    }
 
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
+    /**
+     * Position zwischen letztem und aktuellem Schritt (wird wiederverwendet)
+     */
+    public Vector2 getRenderPosition(float alpha) {
+        return renderPosition.set(previousPosition).lerp(position, alpha);
     }
 
     /**
      * Zeichnet den Kollisionsradius (für Debug)
      */
-    public void renderCollisionRadius(ShapeRenderer renderer) {
+    public void renderCollisionRadius(ShapeRenderer renderer, float alpha) {
         if (isDestroyed) return;
 
+        Vector2 drawPosition = getRenderPosition(alpha);
         renderer.setColor(1, 1, 1, 0.2f);
-        renderer.circle(position.x, position.y, collisionRadius);
+        renderer.circle(drawPosition.x, drawPosition.y, collisionRadius);
     }
 
     public void renderTarget(ShapeRenderer renderer) {
@@ -203,20 +217,6 @@ public class TargetSeeker {
         renderer.line(target.x, target.y - crossSize, target.x, target.y + crossSize);
     }
 
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = (float) Math.toRadians(angleDeg);
-        float cos = (float) Math.cos(angleRad);
-        float sin = (float) Math.sin(angleRad);
-
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
-
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
-
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
-    }
-
     // Setter
     public void setColor(float r, float g, float b, float a) {
         this.r = r;
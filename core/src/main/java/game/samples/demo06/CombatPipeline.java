@@ -0,0 +1,541 @@
+package game.samples.demo06;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import game.samples.common.Broadphase;
+import game.samples.common.GridBroadphase;
+import game.samples.common.ObjectPool;
+import game.samples.common.SpatialHash;
+import game.samples.common.SweepAndPrune;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Die demo06-Simulation als feste Abfolge von Phasen, Main liest nur Eingaben und zeichnet.
+ *
+ * 1. Integrate: Seeker, Projektile und Explosionen bewegen (nichts wird entfernt)
+ * 2. Broadphase: Positionen und Radien in Arrays kopieren, Zielgitter und Kollisions-Broadphase aufbauen
+ * 3. Targeting: nächstes Ziel pro Seeker in targetIndex[] (liest nur, schreibt nur den eigenen Eintrag)
+ * 4. Fire: Schüsse in der Reihenfolge der Seeker, neue Projektile in einen Puffer
+ * 5. Resolve: Projektil-Treffer, dann Kollisionen - Zerstörungen und Explosionen in Puffer
+ * 6. Compact: Puffer anwenden, tote Seeker, Projektile und Explosionen entfernen
+ *
+ * Zwischen den Phasen ändern sich Listen nur an den Phasengrenzen (neue Projektile
+ * nach Fire, alles andere in Compact). Innerhalb eines Ticks ist der Listenindex
+ * eines Seekers seine ID in allen Arrays. Die Dauer jeder Phase steht in getPhaseNanos().
+ *
+ * Im parallelen Modus laufen Targeting und die Treffersuche in Resolve in Bereichen
+ * auf einem ForkJoinPool. Beide lesen nur den Stand des Ticks und schreiben nur ihren
+ * eigenen Eintrag (targetIndex[i] bzw. hitSeeker[i]). Angewendet werden Treffer danach
+ * seriell in Projektil-Reihenfolge: Ist der gefundene Seeker schon von einem früheren
+ * Projektil zerstört, wird für dieses Projektil seriell neu gesucht. Das Ergebnis ist
+ * damit unabhängig von Modus und Thread-Anzahl gleich.
+ */
+public class CombatPipeline {
+    public static final String[] PHASE_NAMES = { "Integrate", "Broadphase", "Targeting", "Fire", "Resolve", "Compact" };
+    private static final int INTEGRATE = 0;
+    private static final int BROADPHASE = 1;
+    private static final int TARGETING = 2;
+    private static final int FIRE = 3;
+    private static final int RESOLVE = 4;
+    private static final int COMPACT = 5;
+
+    private static final float MIN_COLLISION_CELL = 8f;
+    private static final float TARGET_CELL = 64f;
+
+    // Darunter lohnt sich das Verteilen nicht
+    private static final int MIN_PARALLEL_ITEMS = 256;
+    // Mehr Bereiche als Threads, damit ungleich teure Bereiche sich ausgleichen
+    private static final int RANGES_PER_THREAD = 4;
+
+    /**
+     * Ein fester Bereich [count * part / parts, count * (part + 1) / parts)
+     */
+    @SuppressWarnings("serial") // wird nie serialisiert
+    private class RangeTask extends RecursiveAction {
+        private final int part;
+        private final IntArray candidates = new IntArray(); // eigener Puffer pro Bereich
+
+        private RangeTask(int part) {
+            this.part = part;
+        }
+
+        @Override
+        protected void compute() {
+            int from = (int)((long) rangeCount * part / ranges.length);
+            int to = (int)((long) rangeCount * (part + 1) / ranges.length);
+            if (rangePhase == TARGETING) {
+                findTargets(from, to);
+            } else {
+                findHits(from, to, candidates);
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final RangeTask[] ranges;
+    private final RecursiveAction root;
+    private boolean parallel;
+    private int rangePhase;
+    private int rangeCount;
+
+    private final List<TargetSeeker> seekers;
+    // Ungeordnet: Entfernen tauscht mit dem letzten Element, Objekte kommen aus Pools
+    private final Array<Explosion> explosions;
+    private final Array<Projectile> projectiles;
+    private final ObjectPool<Explosion> explosionPool;
+    private final ObjectPool<Projectile> projectilePool;
+
+    // Broadphase für Kollisionen (Gitter oder Sweep & Prune) und Index für die Zielsuche
+    private final Broadphase[] broadphases;
+    private int broadphaseIndex;
+    private final SpatialHash targetGrid;
+    private final IntArray hitCandidates = new IntArray();
+    private float maxSeekerRadius;
+
+    // Pro Seeker, nach Listenindex (wachsen nur)
+    private float[] positionX = new float[64];
+    private float[] positionY = new float[64];
+    private float[] radius = new float[64];
+    private int[] targetIndex = new int[64];
+    private boolean[] dead = new boolean[64];
+    private int seekerCount;
+
+    // Pro Projektil: getroffener Seeker oder -1 (wächst nur)
+    private int[] hitSeeker = new int[64];
+
+    // Befehlspuffer, angewendet an den Phasengrenzen
+    private final Array<Projectile> spawnedProjectiles = new Array<>(false, 16);
+    private final IntArray destroyedSeekers = new IntArray();
+    private final FloatArray explosionPositions = new FloatArray(); // x, y
+
+    private final long[] phaseNanos = new long[PHASE_NAMES.length];
+
+    private boolean verifyTargeting;
+    private int targetMismatches;
+
+    private int totalSpawned;
+    private int totalDestroyed;
+    private int totalShots;
+    private int totalHits;
+    private int candidatePairs;
+
+    // Ereignisse des letzten step() (für Sounds)
+    private int shotsThisStep;
+    private int hitsThisStep;
+    private int collisionsThisStep;
+
+    /**
+     * @param threadCount Threads für Targeting und Treffersuche im parallelen Modus
+     */
+    public CombatPipeline(float width, float height, int threadCount) {
+        seekers = new ArrayList<>();
+        explosions = new Array<>(false, 16);
+        projectiles = new Array<>(false, 64);
+        explosionPool = new ObjectPool<>(Explosion::new);
+        projectilePool = new ObjectPool<>(Projectile::new);
+
+        broadphases = new Broadphase[] {
+            new GridBroadphase(width, height, MIN_COLLISION_CELL),
+            new SweepAndPrune()
+        };
+        targetGrid = new SpatialHash(width, height, TARGET_CELL);
+
+        pool = new ForkJoinPool(threadCount);
+        ranges = new RangeTask[threadCount * RANGES_PER_THREAD];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = new RangeTask(i);
+        }
+        root = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(ranges);
+            }
+        };
+    }
+
+    public void step(float deltaTime) {
+        shotsThisStep = 0;
+        hitsThisStep = 0;
+        collisionsThisStep = 0;
+
+        long time = System.nanoTime();
+        integrate(deltaTime);
+        time = endPhase(INTEGRATE, time);
+        broadphase();
+        time = endPhase(BROADPHASE, time);
+        targeting();
+        time = endPhase(TARGETING, time);
+        fire();
+        time = endPhase(FIRE, time);
+        resolve();
+        time = endPhase(RESOLVE, time);
+        compact();
+        endPhase(COMPACT, time);
+    }
+
+    private long endPhase(int phase, long start) {
+        long now = System.nanoTime();
+        phaseNanos[phase] = now - start;
+        return now;
+    }
+
+    private void integrate(float deltaTime) {
+        for (int i = 0; i < seekers.size(); i++) {
+            seekers.get(i).update(deltaTime);
+        }
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).update(deltaTime);
+        }
+        for (int i = 0; i < explosions.size; i++) {
+            explosions.get(i).update(deltaTime);
+        }
+    }
+
+    private void broadphase() {
+        seekerCount = seekers.size();
+        ensureCapacity(seekerCount);
+
+        Broadphase broadphase = broadphases[broadphaseIndex];
+        broadphase.clear();
+        targetGrid.clear();
+        maxSeekerRadius = 0f;
+        for (int i = 0; i < seekerCount; i++) {
+            // Nach compact() gibt es keine zerstörten Seeker in der Liste
+            TargetSeeker seeker = seekers.get(i);
+            positionX[i] = seeker.getPosition().x;
+            positionY[i] = seeker.getPosition().y;
+            radius[i] = seeker.getCollisionRadius();
+            dead[i] = false;
+
+            targetGrid.add(i, positionX[i], positionY[i]);
+            broadphase.add(i, positionX[i], positionY[i], radius[i]);
+            maxSeekerRadius = Math.max(maxSeekerRadius, radius[i]);
+        }
+        targetGrid.build();
+        candidatePairs = seekerCount < 2 ? 0 : broadphase.findPairs();
+    }
+
+    private void targeting() {
+        if (parallel && seekerCount >= MIN_PARALLEL_ITEMS) {
+            runRanges(TARGETING, seekerCount);
+        } else {
+            findTargets(0, seekerCount);
+        }
+
+        // Gegenprobe mit allen Paaren
+        if (verifyTargeting) {
+            for (int i = 0; i < seekerCount; i++) {
+                TargetSeeker expected = seekers.get(i).findEnemyInRange(seekers);
+                TargetSeeker found = targetIndex[i] < 0 ? null : seekers.get(targetIndex[i]);
+                if (expected != found) targetMismatches++;
+            }
+        }
+    }
+
+    /**
+     * Liest nur, schreibt nur targetIndex[from..to)
+     */
+    private void findTargets(int from, int to) {
+        for (int i = from; i < to; i++) {
+            TargetSeeker seeker = seekers.get(i);
+            targetIndex[i] = seeker.canShoot()
+                ? targetGrid.findNearest(positionX[i], positionY[i], seeker.getWeaponRange(), i)
+                : -1;
+        }
+    }
+
+    private void fire() {
+        // Reihenfolge der Seeker bestimmt die Reihenfolge der Zufallszahlen
+        for (int i = 0; i < seekerCount; i++) {
+            if (targetIndex[i] < 0) continue;
+
+            Projectile projectile = seekers.get(i).tryShoot(seekers.get(targetIndex[i]), projectilePool);
+            if (projectile != null) {
+                spawnedProjectiles.add(projectile);
+            }
+        }
+
+        // Phasengrenze: neue Projektile können noch in diesem Tick treffen
+        projectiles.addAll(spawnedProjectiles);
+        shotsThisStep = spawnedProjectiles.size;
+        totalShots += shotsThisStep;
+        spawnedProjectiles.clear();
+    }
+
+    private void resolve() {
+        // Treffersuche für alle Projektile (noch ist kein Seeker zerstört)
+        int projectileCount = projectiles.size;
+        if (hitSeeker.length < projectileCount) {
+            hitSeeker = new int[Math.max(projectileCount, hitSeeker.length * 2)];
+        }
+        if (parallel && projectileCount >= MIN_PARALLEL_ITEMS) {
+            runRanges(RESOLVE, projectileCount);
+        } else {
+            findHits(0, projectileCount, hitCandidates);
+        }
+
+        // Treffer anwenden, in Projektil-Reihenfolge
+        for (int i = 0; i < projectileCount; i++) {
+            int hit = hitSeeker[i];
+            if (hit < 0) continue;
+
+            // Schon von einem früheren Projektil zerstört: nächstbesten Seeker suchen
+            if (dead[hit]) {
+                hit = findHit(projectiles.get(i), hitCandidates);
+                if (hit < 0) continue;
+            }
+
+            projectiles.get(i).destroy();
+            destroySeeker(hit);
+            explosionPositions.add(positionX[hit], positionY[hit]);
+
+            hitsThisStep++;
+            totalHits++;
+        }
+
+        // Kollisionen: Paare kommen in derselben Reihenfolge wie bei der Prüfung aller Paare
+        Broadphase broadphase = broadphases[broadphaseIndex];
+        for (int k = 0; k < candidatePairs; k++) {
+            int a = broadphase.getPairA(k);
+            int b = broadphase.getPairB(k);
+            if (dead[a] || dead[b]) continue;
+
+            float dx = positionX[a] - positionX[b];
+            float dy = positionY[a] - positionY[b];
+            if ((float)Math.sqrt(dx * dx + dy * dy) < radius[a] + radius[b]) {
+                destroySeeker(a);
+                destroySeeker(b);
+
+                // Explosion im Mittelpunkt zwischen beiden
+                explosionPositions.add((positionX[a] + positionX[b]) * 0.5f, (positionY[a] + positionY[b]) * 0.5f);
+                collisionsThisStep++;
+            }
+        }
+    }
+
+    /**
+     * Liest nur, schreibt nur hitSeeker[from..to)
+     */
+    private void findHits(int from, int to, IntArray candidates) {
+        for (int i = from; i < to; i++) {
+            hitSeeker[i] = findHit(projectiles.get(i), candidates);
+        }
+    }
+
+    /**
+     * Frühester Treffer unter den noch nicht zerstörten Seekern im Rechteck um die Bewegung
+     * (bei gleicher Zeit gewinnt der kleinere Index)
+     * @return Seeker-Index oder -1
+     */
+    private int findHit(Projectile projectile, IntArray candidates) {
+        if (!projectile.isAlive()) return -1;
+
+        float fromX = projectile.getPreviousPosition().x;
+        float fromY = projectile.getPreviousPosition().y;
+        float toX = projectile.getPosition().x;
+        float toY = projectile.getPosition().y;
+        float reach = projectile.getSize() + maxSeekerRadius;
+        targetGrid.query(Math.min(fromX, toX) - reach, Math.min(fromY, toY) - reach,
+            Math.max(fromX, toX) + reach, Math.max(fromY, toY) + reach, candidates);
+
+        int hit = -1;
+        float bestTime = Float.MAX_VALUE;
+        for (int k = 0; k < candidates.size; k++) {
+            int candidate = candidates.get(k);
+            if (dead[candidate]) continue;
+
+            float time = projectile.hitTime(seekers.get(candidate));
+            if (time >= 0f && time < bestTime) {
+                hit = candidate;
+                bestTime = time;
+            }
+        }
+        return hit;
+    }
+
+    private void runRanges(int phase, int count) {
+        rangePhase = phase;
+        rangeCount = count;
+        pool.invoke(root);
+
+        // Tasks für den nächsten Durchlauf wiederverwenden
+        root.reinitialize();
+        for (RangeTask range : ranges) {
+            range.reinitialize();
+        }
+    }
+
+    private void destroySeeker(int index) {
+        dead[index] = true;
+        destroyedSeekers.add(index);
+    }
+
+    private void compact() {
+        // Zerstörte Seeker (Reihenfolge der übrigen bleibt erhalten)
+        if (destroyedSeekers.size > 0) {
+            for (int k = 0; k < destroyedSeekers.size; k++) {
+                seekers.get(destroyedSeekers.get(k)).destroy();
+            }
+            totalDestroyed += destroyedSeekers.size;
+            destroyedSeekers.clear();
+            seekers.removeIf(TargetSeeker::isDestroyed);
+        }
+
+        // Tote Projektile und fertige Explosionen (rückwärts, damit nach dem Tausch-Entfernen nichts übersprungen wird)
+        for (int i = projectiles.size - 1; i >= 0; i--) {
+            if (!projectiles.get(i).isAlive()) {
+                projectilePool.free(projectiles.removeIndex(i));
+            }
+        }
+        for (int i = explosions.size - 1; i >= 0; i--) {
+            if (explosions.get(i).isFinished()) {
+                explosionPool.free(explosions.removeIndex(i));
+            }
+        }
+
+        // Neue Explosionen
+        for (int k = 0; k < explosionPositions.size; k += 2) {
+            Explosion explosion = explosionPool.obtain();
+            explosion.init(explosionPositions.get(k), explosionPositions.get(k + 1));
+            explosions.add(explosion);
+        }
+        explosionPositions.clear();
+    }
+
+    private void ensureCapacity(int count) {
+        if (count <= positionX.length) return;
+
+        int capacity = Math.max(count, positionX.length * 2);
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        radius = new float[capacity];
+        targetIndex = new int[capacity];
+        dead = new boolean[capacity];
+    }
+
+    /**
+     * Neuer Seeker (zwischen zwei step()-Aufrufen)
+     */
+    public void addSeeker(TargetSeeker seeker) {
+        seekers.add(seeker);
+        totalSpawned++;
+    }
+
+    public void reset() {
+        seekers.clear();
+        explosionPool.freeAll(explosions);
+        explosions.clear();
+        projectilePool.freeAll(projectiles);
+        projectiles.clear();
+        totalSpawned = 0;
+        totalDestroyed = 0;
+        totalShots = 0;
+        totalHits = 0;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    public void nextBroadphase() {
+        broadphaseIndex = (broadphaseIndex + 1) % broadphases.length;
+    }
+
+    /**
+     * Zielsuche zusätzlich mit allen Paaren prüfen (setzt den Zähler zurück)
+     */
+    public void setVerifyTargeting(boolean verifyTargeting) {
+        this.verifyTargeting = verifyTargeting;
+        this.targetMismatches = 0;
+    }
+
+    // Getter
+    public List<TargetSeeker> getSeekers() {
+        return seekers;
+    }
+
+    public Array<Projectile> getProjectiles() {
+        return projectiles;
+    }
+
+    public Array<Explosion> getExplosions() {
+        return explosions;
+    }
+
+    public ObjectPool<Projectile> getProjectilePool() {
+        return projectilePool;
+    }
+
+    public ObjectPool<Explosion> getExplosionPool() {
+        return explosionPool;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public int getThreadCount() {
+        return pool.getParallelism();
+    }
+
+    public Broadphase getBroadphase() {
+        return broadphases[broadphaseIndex];
+    }
+
+    /**
+     * Dauer jeder Phase im letzten step(), Index wie PHASE_NAMES
+     */
+    public long[] getPhaseNanos() {
+        return phaseNanos;
+    }
+
+    public boolean isVerifyTargeting() {
+        return verifyTargeting;
+    }
+
+    public int getTargetMismatches() {
+        return targetMismatches;
+    }
+
+    public int getTotalSpawned() {
+        return totalSpawned;
+    }
+
+    public int getTotalDestroyed() {
+        return totalDestroyed;
+    }
+
+    public int getTotalShots() {
+        return totalShots;
+    }
+
+    public int getTotalHits() {
+        return totalHits;
+    }
+
+    public int getCandidatePairs() {
+        return candidatePairs;
+    }
+
+    public int getShotsThisStep() {
+        return shotsThisStep;
+    }
+
+    public int getHitsThisStep() {
+        return hitsThisStep;
+    }
+
+    public int getCollisionsThisStep() {
+        return collisionsThisStep;
+    }
+}
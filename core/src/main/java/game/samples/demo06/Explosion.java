@@ -1,8 +1,9 @@
 package game.samples.demo06;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.Pool;
 
-public class Explosion {
+public class Explosion implements Pool.Poolable {
     private float x, y;
     private float radius;
     private float maxRadius;
@@ -10,13 +11,25 @@ public class Explosion {
     private float duration;
     private float timer;
 
-    public Explosion(float x, float y) {
+    public Explosion() {
+        this.maxRadius = 40f;
+        this.duration = 0.5f; // 0.5 Sekunden
+        reset();
+    }
+
+    /**
+     * Startet die Explosion an (x, y) - für Objekte aus dem Pool
+     */
+    public void init(float x, float y) {
         this.x = x;
         this.y = y;
+        reset();
+    }
+
+    @Override
+    public void reset() {
         this.radius = 5f;
-        this.maxRadius = 40f;
         this.alpha = 1f;
-        this.duration = 0.5f; // 0.5 Sekunden
         this.timer = 0f;
     }
 
@@ -11,11 +11,12 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.TriangleBatch;
 
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -23,6 +24,7 @@ import java.util.List;
  */
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
     private Viewport viewport;
@@ -31,17 +33,14 @@ public class Main extends ApplicationAdapter {
     private static final float VIRTUAL_WIDTH = 800f;
     private static final float VIRTUAL_HEIGHT = 600f;
 
-    private List<TargetSeeker> seekers;
-    private List<Explosion> explosions;
-    private List<Projectile> projectiles;
-
-    private int totalSpawned;
-    private int totalDestroyed;
-    private int totalShots;
-    private int totalHits;
+    // Simulation in festen Phasen (siehe CombatPipeline)
+    private CombatPipeline pipeline;
     private boolean showCollisionRadius;
     private boolean showWeaponRange;
 
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     private Sound shootSound;
     private Sound hitSound;
     private Sound collisionSound;
@@ -49,6 +48,7 @@ public class Main extends ApplicationAdapter {
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.3f);
@@ -57,16 +57,10 @@ public class Main extends ApplicationAdapter {
         camera.position.set(VIRTUAL_WIDTH / 2f, VIRTUAL_HEIGHT / 2f, 0);
         viewport = new FitViewport(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, camera);
 
-        seekers = new ArrayList<>();
-        explosions = new ArrayList<>();
-        projectiles = new ArrayList<>();
+        pipeline = new CombatPipeline(VIRTUAL_WIDTH, VIRTUAL_HEIGHT, Runtime.getRuntime().availableProcessors());
 
         showCollisionRadius = false;
         showWeaponRange = false;
-        totalSpawned = 0;
-        totalDestroyed = 0;
-        totalShots = 0;
-        totalHits = 0;
 
         // Optional: Sounds laden
         // shootSound = Gdx.audio.newSound(Gdx.files.internal("sounds/shoot.wav"));
@@ -92,23 +86,29 @@ public class Main extends ApplicationAdapter {
         seeker.setColor(r, g, b, a);
         seeker.setWeaponRange(120f + (float)Math.random() * 80f); // 120-200 Reichweite
         seeker.setHitChance(0.75f); // 75% Trefferchance
-        seekers.add(seeker);
-        totalSpawned++;
+        pipeline.addSeeker(seeker);
     }
 
     @Override
     public void render() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
-
         handleInput();
-        updateGame(deltaTime);
-        handleCombat();
-        checkProjectileHits();
-        checkCollisions();
+
+        int steps = loop.advance(Gdx.graphics.getDeltaTime());
+        for (int i = 0; i < steps; i++) {
+            pipeline.step(loop.getStep());
+            playSounds();
+        }
+
+        List<TargetSeeker> seekers = pipeline.getSeekers();
+        Array<Projectile> projectiles = pipeline.getProjectiles();
+        Array<Explosion> explosions = pipeline.getExplosions();
 
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Zwischen zwei Simulationsschritten interpolieren
+        float alpha = loop.getAlpha();
+
         viewport.apply();
         camera.update();
         shapeRenderer.setProjectionMatrix(camera.combined);
@@ -118,7 +118,7 @@ public class Main extends ApplicationAdapter {
         if (showWeaponRange) {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
             for (TargetSeeker seeker : seekers) {
-                seeker.renderWeaponRange(shapeRenderer);
+                seeker.renderWeaponRange(shapeRenderer, alpha);
             }
             shapeRenderer.end();
         }
@@ -136,9 +136,10 @@ public class Main extends ApplicationAdapter {
         for (TargetSeeker seeker : seekers) {
             if (!seeker.isDestroyed()) {
                 shapeRenderer.setColor(1, 1, 0, 0.2f);
+                Vector2 drawPosition = seeker.getRenderPosition(alpha);
                 shapeRenderer.line(
-                    seeker.getPosition().x,
-                    seeker.getPosition().y,
+                    drawPosition.x,
+                    drawPosition.y,
                     seeker.getTarget().x,
                     seeker.getTarget().y
                 );
@@ -151,42 +152,48 @@ public class Main extends ApplicationAdapter {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
             Gdx.gl.glLineWidth(1);
             for (TargetSeeker seeker : seekers) {
-                seeker.renderCollisionRadius(shapeRenderer);
+                seeker.renderCollisionRadius(shapeRenderer, alpha);
             }
             shapeRenderer.end();
         }
 
         // Zeichne Projektile
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Projectile projectile : projectiles) {
-            projectile.render(shapeRenderer);
+        for (int i = 0; i < projectiles.size; i++) {
+            projectiles.get(i).render(shapeRenderer, alpha);
         }
         shapeRenderer.end();
 
         // Zeichne Explosionen
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        for (Explosion explosion : explosions) {
-            explosion.render(shapeRenderer);
+        for (int i = 0; i < explosions.size; i++) {
+            explosions.get(i).render(shapeRenderer);
         }
         shapeRenderer.end();
 
         // Zeichne Dreiecke
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         for (TargetSeeker seeker : seekers) {
-            seeker.render(shapeRenderer);
+            seeker.render(triangles, alpha);
         }
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // Text
         batch.begin();
-        font.draw(batch, "SPACE = Neues Dreieck", 20, 580);
+        font.draw(batch, "SPACE = Neues Dreieck (Shift = 100)", 20, 580);
         font.draw(batch, "C = Kollisionsradius", 20, 557);
         font.draw(batch, "W = Waffenreichweite", 20, 534);
         font.draw(batch, "R = Reset", 20, 511);
+        font.draw(batch, "V = Zielsuche prüfen", 20, 488);
+        font.draw(batch, "B = Broadphase wechseln", 20, 465);
+        font.draw(batch, "P = Parallel (" + pipeline.getThreadCount() + " Threads): " + (pipeline.isParallel() ? "AN" : "AUS"), 20, 442);
 
         font.setColor(Color.YELLOW);
+        int totalShots = pipeline.getTotalShots();
+        int totalHits = pipeline.getTotalHits();
         font.draw(batch, "Aktiv: " + seekers.size(), 20, 180);
-        font.draw(batch, "Zerstört: " + totalDestroyed, 20, 157);
+        font.draw(batch, "Zerstört: " + pipeline.getTotalDestroyed(), 20, 157);
         font.draw(batch, "Schüsse: " + totalShots, 20, 134);
         font.draw(batch, "Treffer: " + totalHits, 20, 111);
 
@@ -195,7 +202,16 @@ public class Main extends ApplicationAdapter {
             font.draw(batch, String.format("Genauigkeit: %.1f%%", accuracy), 20, 88);
         }
 
-        font.draw(batch, "Projektile: " + projectiles.size(), 20, 65);
+        font.draw(batch, "Projektile: " + projectiles.size + " (Pool " + pipeline.getProjectilePool().getFree() + " frei), Explosionen: " +
+            explosions.size + " (Pool " + pipeline.getExplosionPool().getFree() + " frei)", 20, 65);
+        font.draw(batch, "Kollisionspaare geprüft: " + pipeline.getCandidatePairs() + " (" + pipeline.getBroadphase().getName() + ")", 20, 42);
+        font.draw(batch, "Zielsuche prüfen: " + (pipeline.isVerifyTargeting() ? "AN (" + pipeline.getTargetMismatches() + " Abweichungen)" : "AUS"), 20, 19);
+
+        // Dauer der Phasen im letzten Tick
+        long[] phaseNanos = pipeline.getPhaseNanos();
+        for (int i = 0; i < phaseNanos.length; i++) {
+            font.draw(batch, String.format("%s: %d µs", CombatPipeline.PHASE_NAMES[i], phaseNanos[i] / 1000), 600, 580 - i * 23);
+        }
 
         font.setColor(Color.WHITE);
         batch.end();
@@ -203,28 +219,40 @@ public class Main extends ApplicationAdapter {
 
     private void handleInput() {
         if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE)) {
-            float r = (float) Math.random();
-            float g = (float) Math.random();
-            float b = (float) Math.random();
-            spawnSeeker(r, g, b, 1f);
+            int count = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) ? 100 : 1;
+            for (int i = 0; i < count; i++) {
+                float r = (float) Math.random();
+                float g = (float) Math.random();
+                float b = (float) Math.random();
+                spawnSeeker(r, g, b, 1f);
+            }
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.C)) {
             showCollisionRadius = !showCollisionRadius;
         }
 
+        // Broadphase wechseln (Ergebnis bleibt gleich, nur die Anzahl geprüfter Paare ändert sich)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.B)) {
+            pipeline.nextBroadphase();
+        }
+
+        // Targeting und Treffersuche auf mehrere Threads verteilen (Ergebnis bleibt gleich)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) {
+            pipeline.setParallel(!pipeline.isParallel());
+        }
+
         if (Gdx.input.isKeyJustPressed(Input.Keys.W)) {
             showWeaponRange = !showWeaponRange;
         }
 
+        // Zielsuche zusätzlich mit allen Paaren prüfen
+        if (Gdx.input.isKeyJustPressed(Input.Keys.V)) {
+            pipeline.setVerifyTargeting(!pipeline.isVerifyTargeting());
+        }
+
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
-            seekers.clear();
-            explosions.clear();
-            projectiles.clear();
-            totalSpawned = 0;
-            totalDestroyed = 0;
-            totalShots = 0;
-            totalHits = 0;
+            pipeline.reset();
 
             for (int i = 0; i < 5; i++) {
                 float r = (float) Math.random();
@@ -235,140 +263,19 @@ public class Main extends ApplicationAdapter {
         }
     }
 
-    private void updateGame(float deltaTime) {
-        // Update alle Seeker
-        for (TargetSeeker seeker : seekers) {
-            seeker.update(deltaTime);
-        }
-
-        // Update Projektile
-        Iterator<Projectile> projIter = projectiles.iterator();
-        while (projIter.hasNext()) {
-            Projectile projectile = projIter.next();
-            projectile.update(deltaTime);
-
-            if (!projectile.isAlive()) {
-                projIter.remove();
-            }
-        }
-
-        // Update Explosionen
-        Iterator<Explosion> expIter = explosions.iterator();
-        while (expIter.hasNext()) {
-            Explosion explosion = expIter.next();
-            explosion.update(deltaTime);
-
-            if (explosion.isFinished()) {
-                expIter.remove();
-            }
-        }
-    }
-
     /**
-     * Lässt Seeker aufeinander schießen
+     * Ein Sound pro Ereignisart und Tick, auch bei mehreren Schüssen oder Treffern
      */
-    private void handleCombat() {
-        for (TargetSeeker seeker : seekers) {
-            if (seeker.isDestroyed()) continue;
-
-            // Suche Feind in Reichweite
-            TargetSeeker enemy = seeker.findEnemyInRange(seekers);
-
-            if (enemy != null) {
-                // Versuche zu schießen
-                Projectile projectile = seeker.tryShoot(enemy);
-
-                if (projectile != null) {
-                    projectiles.add(projectile);
-                    totalShots++;
-
-                    if (shootSound != null) {
-                        shootSound.play(0.3f);
-                    }
-                }
-            }
+    private void playSounds() {
+        if (shootSound != null && pipeline.getShotsThisStep() > 0) {
+            shootSound.play(0.3f);
         }
-    }
-
-    /**
-     * Prüft ob Projektile Seeker treffen
-     */
-    private void checkProjectileHits() {
-        Iterator<Projectile> projIter = projectiles.iterator();
-
-        while (projIter.hasNext()) {
-            Projectile projectile = projIter.next();
-
-            for (TargetSeeker seeker : seekers) {
-                if (projectile.hits(seeker)) {
-                    // Treffer!
-                    seeker.destroy();
-                    projectile.destroy();
-
-                    // Explosion
-                    explosions.add(new Explosion(seeker.getPosition().x, seeker.getPosition().y));
-
-                    totalHits++;
-
-                    if (hitSound != null) {
-                        hitSound.play(0.5f);
-                    }
-
-                    System.out.println("TREFFER! Genauigkeit: " + (totalHits * 100f / totalShots) + "%");
-
-                    break;
-                }
-            }
+        if (hitSound != null && pipeline.getHitsThisStep() > 0) {
+            hitSound.play(0.5f);
         }
-
-        // Entferne tote Projektile
-        projectiles.removeIf(p -> !p.isAlive());
-
-        // Entferne zerstörte Seeker
-        Iterator<TargetSeeker> seekerIter = seekers.iterator();
-        while (seekerIter.hasNext()) {
-            TargetSeeker seeker = seekerIter.next();
-            if (seeker.isDestroyed()) {
-                seekerIter.remove();
-                totalDestroyed++;
-            }
-        }
-    }
-
-    private void checkCollisions() {
-        List<TargetSeeker> toRemove = new ArrayList<>();
-
-        for (int i = 0; i < seekers.size(); i++) {
-            TargetSeeker seeker1 = seekers.get(i);
-            if (seeker1.isDestroyed()) continue;
-
-            for (int j = i + 1; j < seekers.size(); j++) {
-                TargetSeeker seeker2 = seekers.get(j);
-                if (seeker2.isDestroyed()) continue;
-
-                if (seeker1.collidesWith(seeker2)) {
-                    seeker1.destroy();
-                    seeker2.destroy();
-
-                    toRemove.add(seeker1);
-                    toRemove.add(seeker2);
-
-                    Vector2 collisionPoint = new Vector2(seeker1.getPosition())
-                        .add(seeker2.getPosition())
-                        .scl(0.5f);
-
-                    explosions.add(new Explosion(collisionPoint.x, collisionPoint.y));
-
-                    if (collisionSound != null) {
-                        collisionSound.play(0.5f);
-                    }
-
-                    totalDestroyed += 2;
-                }
-            }
+        if (collisionSound != null && pipeline.getCollisionsThisStep() > 0) {
+            collisionSound.play(0.5f);
         }
-
-        seekers.removeAll(toRemove);
     }
 
     @Override
@@ -381,6 +288,7 @@ public class Main extends ApplicationAdapter {
         shapeRenderer.dispose();
         batch.dispose();
         font.dispose();
+        pipeline.dispose();
 
         if (shootSound != null) shootSound.dispose();
         if (hitSound != null) hitSound.dispose();
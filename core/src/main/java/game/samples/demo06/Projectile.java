@@ -2,9 +2,12 @@ package game.samples.demo06;
 
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import game.samples.common.SweptCircle;
 
-public class Projectile {
+public class Projectile implements Pool.Poolable {
     private Vector2 position;
+    private Vector2 previousPosition; // Position vor dem letzten update()
     private Vector2 velocity;
     private float speed;
     private float lifetime;
@@ -15,29 +18,46 @@ public class Projectile {
     // Wer hat geschossen?
     private TargetSeeker shooter;
 
-    public Projectile(float x, float y, float angle, float speed, TargetSeeker shooter) {
-        this.position = new Vector2(x, y);
+    public Projectile() {
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.velocity = new Vector2();
+        this.maxLifetime = 2f; // 2 Sekunden maximal
+        this.size = 4f;
+    }
+
+    /**
+     * Setzt das Projektil neu auf - für Objekte aus dem Pool
+     */
+    public void init(float x, float y, float angle, float speed, TargetSeeker shooter) {
+        this.position.set(x, y);
+        this.previousPosition.set(x, y);
         this.speed = speed;
         this.shooter = shooter;
         this.lifetime = 0f;
-        this.maxLifetime = 2f; // 2 Sekunden maximal
         this.isAlive = true;
-        this.size = 4f;
 
         // Berechne Geschwindigkeit aus Winkel
         float angleRad = (float) Math.toRadians(angle);
-        this.velocity = new Vector2(
+        this.velocity.set(
             (float) Math.cos(angleRad) * speed,
             (float) Math.sin(angleRad) * speed
         );
     }
 
+    @Override
+    public void reset() {
+        shooter = null; // Seeker nicht über den Pool festhalten
+        isAlive = false;
+    }
+
     public void update(float deltaTime) {
         if (!isAlive) return;
 
         lifetime += deltaTime;
 
         // Bewege Projektil
+        previousPosition.set(position);
         position.add(velocity.x * deltaTime, velocity.y * deltaTime);
 
         // Prüfe Lebensdauer
@@ -46,24 +66,40 @@ public class Projectile {
         }
     }
 
-    public void render(ShapeRenderer renderer) {
+    /**
+     * @param alpha Anteil des nächsten Schritts, gezeichnet zwischen previousPosition und position
+     */
+    public void render(ShapeRenderer renderer, float alpha) {
         if (!isAlive) return;
 
         // Zeichne Projektil als kleiner Kreis
         renderer.setColor(1, 1, 0, 1); // Gelb
-        renderer.circle(position.x, position.y, size);
+        renderer.circle(
+            previousPosition.x + (position.x - previousPosition.x) * alpha,
+            previousPosition.y + (position.y - previousPosition.y) * alpha,
+            size
+        );
     }
 
     /**
-     * Prüft ob dieses Projektil einen Seeker trifft
+     * Prüft ob dieses Projektil einen Seeker trifft (entlang der Bewegung im letzten Frame)
      */
     public boolean hits(TargetSeeker target) {
-        if (!isAlive) return false;
-        if (target.isDestroyed()) return false;
-        if (target == shooter) return false; // Kann sich nicht selbst treffen
+        return hitTime(target) >= 0f;
+    }
 
-        float distance = position.dst(target.getPosition());
-        return distance < (size + target.getCollisionRadius());
+    /**
+     * Zeitpunkt des Treffers entlang der Bewegung im letzten Frame
+     * @return 0..1 (0 = vorherige, 1 = aktuelle Position) oder -1 ohne Treffer
+     */
+    public float hitTime(TargetSeeker target) {
+        if (!isAlive) return -1f;
+        if (target.isDestroyed()) return -1f;
+        if (target == shooter) return -1f; // Kann sich nicht selbst treffen
+
+        Vector2 targetPosition = target.getPosition();
+        return SweptCircle.timeOfImpact(previousPosition.x, previousPosition.y, position.x, position.y,
+            targetPosition.x, targetPosition.y, size + target.getCollisionRadius());
     }
 
     public void destroy() {
@@ -79,6 +115,14 @@ public class Projectile {
         return position;
     }
 
+    public Vector2 getPreviousPosition() {
+        return previousPosition;
+    }
+
+    public float getSize() {
+        return size;
+    }
+
     public TargetSeeker getShooter() {
         return shooter;
     }
@@ -3,6 +3,8 @@ package game.samples.demo06;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import game.samples.common.TriangleBatch;
 
 public class TargetSeeker {
     private Vector2 position;
@@ -10,6 +12,11 @@ public class TargetSeeker {
     private float rotation;
     private float targetRotation;
 
+    // Zustand vor dem letzten Schritt, zum Interpolieren beim Zeichnen
+    private Vector2 previousPosition;
+    private float previousRotation;
+    private Vector2 renderPosition;
+
     private float size;
     private float moveSpeed;
     private float rotationSpeed;
@@ -45,6 +52,8 @@ public class TargetSeeker {
 
         this.position = new Vector2();
         this.target = new Vector2();
+        this.previousPosition = new Vector2();
+        this.renderPosition = new Vector2();
         this.rotation = 0f;
         this.targetRotation = 0f;
         this.state = State.ROTATING;
@@ -64,12 +73,17 @@ public class TargetSeeker {
         this.a = 1f;
 
         randomizePosition();
+        previousPosition.set(position);
+        previousRotation = rotation;
         generateNewTarget();
     }
 
     public void update(float deltaTime) {
         if (isDestroyed) return;
 
+        previousPosition.set(position);
+        previousRotation = rotation;
+
         // Update Waffen-Cooldown
         if (weaponCooldownTimer > 0) {
             weaponCooldownTimer -= deltaTime;
@@ -181,9 +195,9 @@ public class TargetSeeker {
 
     /**
      * Versucht auf ein Ziel zu schießen
-     * @return Projektil wenn geschossen wurde, sonst null
+     * @return Projektil aus dem Pool wenn geschossen wurde, sonst null
      */
-    public Projectile tryShoot(TargetSeeker enemy) {
+    public Projectile tryShoot(TargetSeeker enemy, Pool<Projectile> projectilePool) {
         if (!canShoot()) return null;
         if (enemy == null || enemy.isDestroyed()) return null;
 
@@ -209,7 +223,9 @@ public class TargetSeeker {
         float spawnX = position.x + (float) Math.cos(angleRad) * spawnDistance;
         float spawnY = position.y + (float) Math.sin(angleRad) * spawnDistance;
 
-        return new Projectile(spawnX, spawnY, shootAngle, 300f, this);
+        Projectile projectile = projectilePool.obtain();
+        projectile.init(spawnX, spawnY, shootAngle, 300f, this);
+        return projectile;
     }
 
     /**
@@ -231,44 +247,46 @@ public class TargetSeeker {
         this.isDestroyed = true;
     }
 
-    public void render(ShapeRenderer renderer) {
+    /**
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
+     */
+    public void render(TriangleBatch triangles, float alpha) {
         if (isDestroyed) return;
 
-        renderer.setColor(r, g, b, a);
+        Vector2 drawPosition = getRenderPosition(alpha);
 
-        float halfSize = size / 2f;
+        // Kürzester Weg zwischen den beiden Winkeln
+        float diff = rotation - previousRotation;
+        if (diff > 180f) diff -= 360f;
+        if (diff < -180f) diff += 360f;
 
-        float x1 = position.x + size;
-        float y1 = position.y;
-
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
-
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
-
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
+        triangles.add(drawPosition.x, drawPosition.y, size, previousRotation + diff * alpha, r, g, b, a);
+    }
 
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
+    /**
+     * Position zwischen letztem und aktuellem Schritt (wird wiederverwendet)
+     */
+    public Vector2 getRenderPosition(float alpha) {
+        return renderPosition.set(previousPosition).lerp(position, alpha);
     }
 
     /**
      * Zeichnet Waffenreichweite (Debug)
      */
-    public void renderWeaponRange(ShapeRenderer renderer) {
+    public void renderWeaponRange(ShapeRenderer renderer, float alpha) {
         if (isDestroyed) return;
 
+        Vector2 drawPosition = getRenderPosition(alpha);
         renderer.setColor(1, 0, 0, 0.1f);
-        renderer.circle(position.x, position.y, weaponRange);
+        renderer.circle(drawPosition.x, drawPosition.y, weaponRange);
     }
 
-    public void renderCollisionRadius(ShapeRenderer renderer) {
+    public void renderCollisionRadius(ShapeRenderer renderer, float alpha) {
         if (isDestroyed) return;
 
+        Vector2 drawPosition = getRenderPosition(alpha);
         renderer.setColor(1, 1, 1, 0.2f);
-        renderer.circle(position.x, position.y, collisionRadius);
+        renderer.circle(drawPosition.x, drawPosition.y, collisionRadius);
     }
 
     public void renderTarget(ShapeRenderer renderer) {
@@ -283,20 +301,6 @@ public class TargetSeeker {
         renderer.line(target.x, target.y - crossSize, target.x, target.y + crossSize);
     }
 
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = (float) Math.toRadians(angleDeg);
-        float cos = (float) Math.cos(angleRad);
-        float sin = (float) Math.sin(angleRad);
-
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
-
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
-
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
-    }
-
     // Setter
     public void setColor(float r, float g, float b, float a) {
         this.r = r;
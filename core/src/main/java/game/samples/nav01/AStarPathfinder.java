@@ -0,0 +1,217 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * A*-Suche über das 4er-Nachbarschafts-Gitter des DotGrid.
+ *
+ * Zellen werden als int-Index (y * gridWidth + x) adressiert. Open-Liste,
+ * g-Werte und Vorgänger liegen in int-Arrays, die über Generation-Stempel
+ * zwischen Anfragen wiederverwendet werden - nach dem Aufwärmen erzeugt
+ * eine Anfrage keine Objekte mehr.
+ */
+public class AStarPathfinder implements GridPathfinder {
+    private int gridWidth;
+    private int gridHeight;
+
+    private int[] gScore;
+    private int[] parent;
+    private int[] openStamp;   // g/parent gültig wenn == generation
+    private int[] closedStamp; // abgeschlossen wenn == generation
+    private int generation;
+
+    private final IntMinHeap open;
+
+    // Optional: blockierte Zellen werden nicht betreten
+    private ObstacleLayer obstacles;
+
+    // Statistik der letzten Anfrage
+    private int expandedNodes;
+
+    public AStarPathfinder(int gridWidth, int gridHeight) {
+        int cellCount = gridWidth * gridHeight;
+        this.gScore = new int[cellCount];
+        this.parent = new int[cellCount];
+        this.openStamp = new int[cellCount];
+        this.closedStamp = new int[cellCount];
+        this.open = new IntMinHeap(cellCount);
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+    }
+
+    /**
+     * Passt den Pathfinder an eine neue Gittergröße an. Arrays wachsen nur.
+     */
+    @Override
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+
+        int cellCount = gridWidth * gridHeight;
+        if (cellCount > gScore.length) {
+            gScore = new int[cellCount];
+            parent = new int[cellCount];
+            openStamp = new int[cellCount];
+            closedStamp = new int[cellCount];
+            generation = 0;
+        }
+        open.ensureCapacity(cellCount);
+    }
+
+    /**
+     * Sucht einen kürzesten Pfad von startCell nach goalCell.
+     * outPath enthält danach die Zellen ohne Start, inklusive Ziel.
+     * @return true wenn ein Pfad gefunden wurde
+     */
+    @Override
+    public boolean findPath(int startCell, int goalCell, IntArray outPath) {
+        return findPath(startCell, goalCell, 0, 0, gridWidth - 1, gridHeight - 1, outPath);
+    }
+
+    /**
+     * Wie findPath, betritt aber nur Zellen im Rechteck (Grid-Koordinaten, inklusive).
+     * Start und Ziel müssen im Rechteck liegen.
+     */
+    public boolean findPath(int startCell, int goalCell, int minX, int minY, int maxX, int maxY, IntArray outPath) {
+        outPath.clear();
+        expandedNodes = 0;
+
+        if (startCell == goalCell) return true;
+        if (obstacles != null && obstacles.isBlocked(goalCell)) return false;
+
+        nextGeneration();
+        open.clear();
+
+        int goalX = goalCell % gridWidth;
+        int goalY = goalCell / gridWidth;
+
+        gScore[startCell] = 0;
+        parent[startCell] = -1;
+        openStamp[startCell] = generation;
+        int startH = heuristic(startCell % gridWidth, startCell / gridWidth, goalX, goalY);
+        open.add(startCell, key(startH, startH));
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+
+            if (current == goalCell) {
+                buildPath(startCell, goalCell, outPath);
+                return true;
+            }
+
+            closedStamp[current] = generation;
+            expandedNodes++;
+
+            int x = current % gridWidth;
+            int y = current / gridWidth;
+            int nextG = gScore[current] + 1;
+
+            // Nur horizontal und vertikal (keine Diagonalen)
+            int passable = passableNeighbors(current, x, y);
+            if (x == maxX) passable &= ~ObstacleLayer.RIGHT;
+            if (x == minX) passable &= ~ObstacleLayer.LEFT;
+            if (y == maxY) passable &= ~ObstacleLayer.UP;
+            if (y == minY) passable &= ~ObstacleLayer.DOWN;
+            if ((passable & ObstacleLayer.RIGHT) != 0) relax(current, current + 1, x + 1, y, nextG, goalX, goalY);
+            if ((passable & ObstacleLayer.LEFT) != 0) relax(current, current - 1, x - 1, y, nextG, goalX, goalY);
+            if ((passable & ObstacleLayer.UP) != 0) relax(current, current + gridWidth, x, y + 1, nextG, goalX, goalY);
+            if ((passable & ObstacleLayer.DOWN) != 0) relax(current, current - gridWidth, x, y - 1, nextG, goalX, goalY);
+        }
+
+        return false;
+    }
+
+    private int passableNeighbors(int cell, int x, int y) {
+        if (obstacles != null) {
+            return obstacles.passableNeighbors(cell);
+        }
+
+        int mask = 0;
+        if (x + 1 < gridWidth) mask |= ObstacleLayer.RIGHT;
+        if (x > 0) mask |= ObstacleLayer.LEFT;
+        if (y + 1 < gridHeight) mask |= ObstacleLayer.UP;
+        if (y > 0) mask |= ObstacleLayer.DOWN;
+        return mask;
+    }
+
+    private void relax(int from, int cell, int x, int y, int g, int goalX, int goalY) {
+        if (closedStamp[cell] == generation) return;
+
+        if (openStamp[cell] != generation || g < gScore[cell]) {
+            gScore[cell] = g;
+            parent[cell] = from;
+            int h = heuristic(x, y, goalX, goalY);
+
+            if (openStamp[cell] != generation) {
+                openStamp[cell] = generation;
+                open.add(cell, key(g + h, h));
+            } else {
+                open.addOrUpdate(cell, key(g + h, h));
+            }
+        }
+    }
+
+    private void buildPath(int startCell, int goalCell, IntArray outPath) {
+        for (int cell = goalCell; cell != startCell; cell = parent[cell]) {
+            outPath.add(cell);
+        }
+        outPath.reverse();
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Überlauf: Stempel einmalig zurücksetzen
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Manhattan-Distanz - exakt für ein hindernisfreies 4er-Gitter
+     */
+    private static int heuristic(int x, int y, int goalX, int goalY) {
+        return Math.abs(goalX - x) + Math.abs(goalY - y);
+    }
+
+    /**
+     * Sortiert nach f, bei Gleichstand nach kleinerem h (tiefere Knoten zuerst)
+     */
+    private static long key(int f, int h) {
+        return ((long) f << 32) | h;
+    }
+
+    @Override
+    public int toCell(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    @Override
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+    }
+
+    // Getter
+    @Override
+    public ObstacleLayer getObstacleLayer() {
+        return obstacles;
+    }
+
+    @Override
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    @Override
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    @Override
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+}
@@ -0,0 +1,83 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Fragt zuerst den PathCache und rechnet nur bei einem Fehlschlag selbst
+ */
+public class CachingPathfinder implements GridPathfinder {
+    private final GridPathfinder pathfinder;
+    private final PathCache cache;
+
+    private int expandedNodes;
+
+    public CachingPathfinder(GridPathfinder pathfinder, PathCache cache) {
+        this.pathfinder = pathfinder;
+        this.cache = cache;
+    }
+
+    @Override
+    public boolean findPath(int startCell, int goalCell, IntArray outPath) {
+        expandedNodes = 0;
+        if (startCell == goalCell) {
+            outPath.clear();
+            return true;
+        }
+
+        if (cache.get(startCell, goalCell, outPath)) {
+            return true;
+        }
+
+        boolean found = pathfinder.findPath(startCell, goalCell, outPath);
+        expandedNodes = pathfinder.getExpandedNodes();
+        if (found) {
+            cache.put(startCell, goalCell, outPath);
+        }
+        return found;
+    }
+
+    @Override
+    public void resize(int gridWidth, int gridHeight) {
+        pathfinder.resize(gridWidth, gridHeight);
+        cache.resize(gridWidth);
+    }
+
+    @Override
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        pathfinder.setObstacleLayer(obstacles);
+    }
+
+    @Override
+    public ObstacleLayer getObstacleLayer() {
+        return pathfinder.getObstacleLayer();
+    }
+
+    @Override
+    public int toCell(int gridX, int gridY) {
+        return pathfinder.toCell(gridX, gridY);
+    }
+
+    // Getter
+    public GridPathfinder getPathfinder() {
+        return pathfinder;
+    }
+
+    public PathCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public int getGridWidth() {
+        return pathfinder.getGridWidth();
+    }
+
+    @Override
+    public int getGridHeight() {
+        return pathfinder.getGridHeight();
+    }
+
+    @Override
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+}
@@ -0,0 +1,364 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Inkrementelle Pfadsuche mit D* Lite - eine Instanz pro Einheit.
+ *
+ * Gesucht wird rückwärts vom Ziel zur Einheit. Bleibt das Ziel gleich,
+ * behält der Planer seine g/rhs-Werte über mehrere Anfragen hinweg:
+ * nach einer Änderung der Hindernisse werden nur die inkonsistent
+ * gewordenen Zellen neu expandiert, nicht der ganze Suchraum.
+ *
+ * Kosten: ein Schritt in eine blockierte Zelle ist unendlich teuer,
+ * blockierte Zellen können also verlassen, aber nicht betreten werden.
+ * Speicher: etwa 28 Byte pro Zelle und Einheit.
+ */
+public class DStarLitePathfinder implements GridPathfinder, ObstacleLayer.Listener {
+    private static final int INFINITY = Integer.MAX_VALUE / 2;
+
+    private int gridWidth;
+    private int gridHeight;
+
+    private int[] g;
+    private int[] rhs;
+    private int[] stamp; // g/rhs gültig wenn == generation, sonst unendlich
+    private int generation;
+
+    private final IntMinHeap open;
+
+    private ObstacleLayer obstacles;
+    private ObstacleLayer emptyLayer;
+
+    // Zustand zwischen den Anfragen
+    private int goalCell = -1;
+    private int lastStart;
+    private int km; // Schlüssel-Korrektur für die gewanderte Einheit
+
+    // Seit der letzten Anfrage geänderter Bereich
+    private boolean pendingChanges;
+    private int pendingMinX;
+    private int pendingMinY;
+    private int pendingMaxX;
+    private int pendingMaxY;
+
+    // Statistik der letzten Anfrage
+    private int expandedNodes;
+    private boolean reused;
+
+    public DStarLitePathfinder(int gridWidth, int gridHeight) {
+        int cellCount = gridWidth * gridHeight;
+        this.g = new int[cellCount];
+        this.rhs = new int[cellCount];
+        this.stamp = new int[cellCount];
+        this.open = new IntMinHeap(cellCount);
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+    }
+
+    @Override
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+
+        int cellCount = gridWidth * gridHeight;
+        if (cellCount > g.length) {
+            g = new int[cellCount];
+            rhs = new int[cellCount];
+            stamp = new int[cellCount];
+            generation = 0;
+        }
+        open.ensureCapacity(cellCount);
+
+        if (emptyLayer != null) {
+            emptyLayer.resize(gridWidth, gridHeight);
+        }
+        goalCell = -1;
+    }
+
+    @Override
+    public boolean findPath(int startCell, int goalCell, IntArray outPath) {
+        outPath.clear();
+        expandedNodes = 0;
+
+        if (startCell == goalCell) return true;
+
+        ObstacleLayer layer = layer();
+        if (layer.isBlocked(goalCell)) return false;
+
+        reused = goalCell == this.goalCell;
+        if (reused) {
+            // Einheit ist gewandert: Schlüssel bleiben über km vergleichbar
+            km += heuristic(lastStart, startCell);
+            lastStart = startCell;
+            applyPendingChanges(layer);
+        } else {
+            initialize(startCell, goalCell);
+        }
+
+        computeShortestPath(layer, startCell);
+        if (g(startCell) >= INFINITY) return false;
+
+        // Abstieg entlang der g-Werte
+        int cell = startCell;
+        for (int steps = 0; cell != goalCell; steps++) {
+            if (steps > gridWidth * gridHeight) {
+                outPath.clear();
+                return false;
+            }
+            cell = bestSuccessor(layer, cell);
+            if (cell < 0) {
+                outPath.clear();
+                return false;
+            }
+            outPath.add(cell);
+        }
+
+        return true;
+    }
+
+    private void initialize(int startCell, int goalCell) {
+        nextGeneration();
+        open.clear();
+
+        this.goalCell = goalCell;
+        this.lastStart = startCell;
+        this.km = 0;
+        this.pendingChanges = false;
+
+        setRhs(goalCell, 0);
+        open.add(goalCell, key(heuristic(startCell, goalCell), 0));
+    }
+
+    private void computeShortestPath(ObstacleLayer layer, int startCell) {
+        while (!open.isEmpty()
+            && (open.peekKey() < calculateKey(startCell) || rhs(startCell) != g(startCell))) {
+            int u = open.peek();
+            long oldKey = open.peekKey();
+            long newKey = calculateKey(u);
+            expandedNodes++;
+
+            if (oldKey < newKey) {
+                open.addOrUpdate(u, newKey);
+            } else if (g(u) > rhs(u)) {
+                // Überkonsistent: Wert übernehmen und an die Vorgänger weitergeben
+                setG(u, rhs(u));
+                open.remove(u);
+                if (!layer.isBlocked(u)) {
+                    int cost = g(u) + 1;
+                    int x = u % gridWidth;
+                    int y = u / gridWidth;
+                    if (x + 1 < gridWidth) lowerRhs(u + 1, cost);
+                    if (x > 0) lowerRhs(u - 1, cost);
+                    if (y + 1 < gridHeight) lowerRhs(u + gridWidth, cost);
+                    if (y > 0) lowerRhs(u - gridWidth, cost);
+                }
+            } else {
+                // Unterkonsistent: Wert verwerfen, abhängige Zellen neu bewerten
+                int oldG = g(u);
+                setG(u, INFINITY);
+                int cost = layer.isBlocked(u) ? INFINITY : oldG + 1;
+                int x = u % gridWidth;
+                int y = u / gridWidth;
+                if (x + 1 < gridWidth) raiseRhs(layer, u + 1, cost);
+                if (x > 0) raiseRhs(layer, u - 1, cost);
+                if (y + 1 < gridHeight) raiseRhs(layer, u + gridWidth, cost);
+                if (y > 0) raiseRhs(layer, u - gridWidth, cost);
+                updateRhs(layer, u);
+            }
+        }
+    }
+
+    private void lowerRhs(int cell, int cost) {
+        if (cell != goalCell && cost < rhs(cell)) {
+            setRhs(cell, cost);
+            updateVertex(cell);
+        }
+    }
+
+    private void raiseRhs(ObstacleLayer layer, int cell, int oldCost) {
+        if (rhs(cell) == oldCost) {
+            updateRhs(layer, cell);
+        }
+    }
+
+    /**
+     * rhs = min(1 + g(Nachfolger)) über alle betretbaren Nachbarn
+     */
+    private void updateRhs(ObstacleLayer layer, int cell) {
+        if (cell != goalCell) {
+            int best = INFINITY;
+            int passable = layer.passableNeighbors(cell);
+            if ((passable & ObstacleLayer.RIGHT) != 0) best = Math.min(best, g(cell + 1) + 1);
+            if ((passable & ObstacleLayer.LEFT) != 0) best = Math.min(best, g(cell - 1) + 1);
+            if ((passable & ObstacleLayer.UP) != 0) best = Math.min(best, g(cell + gridWidth) + 1);
+            if ((passable & ObstacleLayer.DOWN) != 0) best = Math.min(best, g(cell - gridWidth) + 1);
+            setRhs(cell, Math.min(best, INFINITY));
+        }
+        updateVertex(cell);
+    }
+
+    private void updateVertex(int cell) {
+        if (g(cell) != rhs(cell)) {
+            open.addOrUpdate(cell, calculateKey(cell));
+        } else {
+            open.remove(cell);
+        }
+    }
+
+    /**
+     * Kanten in geänderte Zellen haben neue Kosten - deren Nachbarn neu bewerten
+     */
+    private void applyPendingChanges(ObstacleLayer layer) {
+        if (!pendingChanges) return;
+        pendingChanges = false;
+
+        int minX = Math.max(0, pendingMinX - 1);
+        int minY = Math.max(0, pendingMinY - 1);
+        int maxX = Math.min(gridWidth - 1, pendingMaxX + 1);
+        int maxY = Math.min(gridHeight - 1, pendingMaxY + 1);
+
+        // Sehr große Änderung: neu anfangen ist billiger
+        if ((maxX - minX + 1) * (maxY - minY + 1) > gridWidth * gridHeight / 4) {
+            initialize(lastStart, goalCell);
+            return;
+        }
+
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                updateRhs(layer, y * gridWidth + x);
+            }
+        }
+    }
+
+    private int bestSuccessor(ObstacleLayer layer, int cell) {
+        int best = -1;
+        int bestG = INFINITY;
+        int passable = layer.passableNeighbors(cell);
+        if ((passable & ObstacleLayer.RIGHT) != 0 && g(cell + 1) < bestG) { best = cell + 1; bestG = g(best); }
+        if ((passable & ObstacleLayer.LEFT) != 0 && g(cell - 1) < bestG) { best = cell - 1; bestG = g(best); }
+        if ((passable & ObstacleLayer.UP) != 0 && g(cell + gridWidth) < bestG) { best = cell + gridWidth; bestG = g(best); }
+        if ((passable & ObstacleLayer.DOWN) != 0 && g(cell - gridWidth) < bestG) { best = cell - gridWidth; }
+        return best;
+    }
+
+    /**
+     * Merkt sich den geänderten Bereich; verarbeitet wird er bei der nächsten Anfrage
+     */
+    @Override
+    public void obstaclesChanged(int minX, int minY, int maxX, int maxY) {
+        if (goalCell < 0) return;
+
+        if (!pendingChanges) {
+            pendingChanges = true;
+            pendingMinX = minX;
+            pendingMinY = minY;
+            pendingMaxX = maxX;
+            pendingMaxY = maxY;
+        } else {
+            pendingMinX = Math.min(pendingMinX, minX);
+            pendingMinY = Math.min(pendingMinY, minY);
+            pendingMaxX = Math.max(pendingMaxX, maxX);
+            pendingMaxY = Math.max(pendingMaxY, maxY);
+        }
+    }
+
+    private long calculateKey(int cell) {
+        int value = Math.min(g(cell), rhs(cell));
+        if (value >= INFINITY) return key(INFINITY, INFINITY);
+        return key(value + heuristic(lastStart, cell) + km, value);
+    }
+
+    private int g(int cell) {
+        return stamp[cell] == generation ? g[cell] : INFINITY;
+    }
+
+    private int rhs(int cell) {
+        return stamp[cell] == generation ? rhs[cell] : INFINITY;
+    }
+
+    private void setG(int cell, int value) {
+        touch(cell);
+        g[cell] = value;
+    }
+
+    private void setRhs(int cell, int value) {
+        touch(cell);
+        rhs[cell] = value;
+    }
+
+    private void touch(int cell) {
+        if (stamp[cell] != generation) {
+            stamp[cell] = generation;
+            g[cell] = INFINITY;
+            rhs[cell] = INFINITY;
+        }
+    }
+
+    private int heuristic(int from, int to) {
+        return Math.abs(from % gridWidth - to % gridWidth) + Math.abs(from / gridWidth - to / gridWidth);
+    }
+
+    private ObstacleLayer layer() {
+        if (obstacles != null) return obstacles;
+
+        if (emptyLayer == null) {
+            emptyLayer = new ObstacleLayer(gridWidth, gridHeight);
+        }
+        return emptyLayer;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Überlauf: Stempel einmalig zurücksetzen
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+    }
+
+    private static long key(int k1, int k2) {
+        return ((long) k1 << 32) | k2;
+    }
+
+    @Override
+    public int toCell(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    @Override
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+        this.goalCell = -1;
+    }
+
+    // Getter
+    @Override
+    public ObstacleLayer getObstacleLayer() {
+        return obstacles;
+    }
+
+    @Override
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    @Override
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    @Override
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    /**
+     * true wenn die letzte Anfrage auf der vorherigen Suche aufgebaut hat
+     */
+    public boolean wasReused() {
+        return reused;
+    }
+}
@@ -4,12 +4,17 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 
-import java.util.ArrayList;
-import java.util.List;
 import com.badlogic.gdx.math.MathUtils;
 
+/**
+ * Punkt-Gitter über der Map.
+ *
+ * Das Gitter wird nicht als Punktliste gespeichert, sondern implizit über
+ * Breite, Höhe und Abstand beschrieben. Zellen werden als int-Index
+ * (y * gridWidth + x) adressiert; alle Umrechnungen kommen ohne neue
+ * Objekte aus. Ein Wechsel des Abstands ändert nur die Dimensionen.
+ */
 public class DotGrid {
-    private List<Vector2> gridPoints;
     private float dotRadius;
     private Color dotColor;
     private float spacing;
@@ -20,64 +25,109 @@ public class DotGrid {
     private int gridHeight; // Anzahl Grid-Punkte vertikal
 
     public DotGrid(float mapWidth, float mapHeight, float spacing) {
-        this.spacing = spacing;
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
         this.dotRadius = 1.5f;
         this.dotColor = Color.LIGHT_GRAY;
-        this.gridPoints = new ArrayList<>();
 
-        generateGrid(mapWidth, mapHeight);
+        setSpacing(spacing);
     }
 
-    private void generateGrid(float mapWidth, float mapHeight) {
-        gridPoints.clear();
+    /**
+     * Ändert den Punktabstand. Es wird nichts neu alloziert.
+     */
+    public void setSpacing(float spacing) {
+        this.spacing = spacing;
 
         gridWidth = (int)(mapWidth / spacing) + 1;
         gridHeight = (int)(mapHeight / spacing) + 1;
 
-        for (float x = 0; x <= mapWidth; x += spacing) {
-            for (float y = 0; y <= mapHeight; y += spacing) {
-                gridPoints.add(new Vector2(x, y));
-            }
-        }
-
-        System.out.println("Grid generiert: " + gridPoints.size() + " Punkte (" +
+        System.out.println("Grid generiert: " + getPointCount() + " Punkte (" +
             gridWidth + " x " + gridHeight + ")");
     }
 
     public void render(ShapeRenderer renderer) {
         renderer.setColor(dotColor);
 
-        for (Vector2 point : gridPoints) {
-            renderer.circle(point.x, point.y, dotRadius);
+        for (int x = 0; x < gridWidth; x++) {
+            float worldX = x * spacing;
+            for (int y = 0; y < gridHeight; y++) {
+                renderer.circle(worldX, y * spacing, dotRadius);
+            }
         }
     }
 
     /**
      * Gibt eine zufällige Grid-Koordinate zurück
      */
-    public Vector2 getRandomGridCoordinate() {
-        int gridX = MathUtils.random(0, gridWidth - 1);
-        int gridY = MathUtils.random(0, gridHeight - 1);
-        return new Vector2(gridX, gridY);
+    public Vector2 getRandomGridCoordinate(Vector2 out) {
+        int cell = getRandomCell();
+        return out.set(cellX(cell), cellY(cell));
+    }
+
+    /**
+     * Gibt eine zufällige Zelle als Index zurück
+     */
+    public int getRandomCell() {
+        return MathUtils.random(0, getPointCount() - 1);
+    }
+
+    /**
+     * Zell-Index aus Grid-Koordinaten
+     */
+    public int toCell(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    public int cellX(int cell) {
+        return cell % gridWidth;
+    }
+
+    public int cellY(int cell) {
+        return cell / gridWidth;
+    }
+
+    public boolean isInside(int gridX, int gridY) {
+        return gridX >= 0 && gridY >= 0 && gridX < gridWidth && gridY < gridHeight;
     }
 
     /**
      * Konvertiert Grid-Koordinaten zu Welt-Koordinaten
      */
-    public Vector2 gridToWorld(int gridX, int gridY) {
-        return new Vector2(gridX * spacing, gridY * spacing);
+    public Vector2 gridToWorld(int gridX, int gridY, Vector2 out) {
+        return out.set(gridX * spacing, gridY * spacing);
+    }
+
+    public float gridToWorldX(int gridX) {
+        return gridX * spacing;
+    }
+
+    public float gridToWorldY(int gridY) {
+        return gridY * spacing;
     }
 
     /**
      * Konvertiert Welt-Koordinaten zu Grid-Koordinaten
      */
-    public Vector2 worldToGrid(float worldX, float worldY) {
-        return new Vector2(
-            Math.round(worldX / spacing),
-            Math.round(worldY / spacing)
-        );
+    public Vector2 worldToGrid(float worldX, float worldY, Vector2 out) {
+        return out.set(worldToGridX(worldX), worldToGridY(worldY));
+    }
+
+    public int worldToGridX(float worldX) {
+        return Math.round(worldX / spacing);
+    }
+
+    public int worldToGridY(float worldY) {
+        return Math.round(worldY / spacing);
+    }
+
+    /**
+     * Zelle unter einer Welt-Koordinate (auf das Gitter geklemmt)
+     */
+    public int worldToCell(float worldX, float worldY) {
+        int gridX = MathUtils.clamp(worldToGridX(worldX), 0, gridWidth - 1);
+        int gridY = MathUtils.clamp(worldToGridY(worldY), 0, gridHeight - 1);
+        return toCell(gridX, gridY);
     }
 
     // Getter
@@ -85,8 +135,16 @@ public class DotGrid {
         return spacing;
     }
 
+    public float getDotRadius() {
+        return dotRadius;
+    }
+
+    public Color getDotColor() {
+        return dotColor;
+    }
+
     public int getPointCount() {
-        return gridPoints.size();
+        return gridWidth * gridHeight;
     }
 
     public int getGridWidth() {
@@ -96,4 +154,12 @@ public class DotGrid {
     public int getGridHeight() {
         return gridHeight;
     }
+
+    public float getMapWidth() {
+        return mapWidth;
+    }
+
+    public float getMapHeight() {
+        return mapHeight;
+    }
 }
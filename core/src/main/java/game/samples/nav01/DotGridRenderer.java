@@ -0,0 +1,186 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/**
+ * Zeichnet das DotGrid aus einem statischen Mesh.
+ *
+ * Jeder Punkt ist ein Quad (zwei Dreiecke), der Fragment-Shader schneidet
+ * daraus einen Kreis aus. Das Mesh wird einmal aufgebaut und nur neu
+ * befüllt, wenn sich der Gitterabstand ändert. Die Punkte liegen zeilenweise
+ * im Mesh, pro Frame werden nur die sichtbaren Zeilen- und Spaltenbereiche
+ * gezeichnet.
+ */
+public class DotGridRenderer implements Disposable {
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec2 v_local;\n" +
+        "void main() {\n" +
+        "    v_local = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "}\n";
+
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "uniform vec4 u_color;\n" +
+        "varying vec2 v_local;\n" +
+        "void main() {\n" +
+        "    if (dot(v_local, v_local) > 1.0) discard;\n" +
+        "    gl_FragColor = u_color;\n" +
+        "}\n";
+
+    private static final int FLOATS_PER_VERTEX = 4; // x, y, u, v
+    private static final int VERTICES_PER_DOT = 6;
+
+    private final DotGrid grid;
+    private final ShaderProgram shader;
+    private Mesh mesh;
+    private float[] vertices;
+
+    // Zustand, für den das Mesh gebaut wurde
+    private float builtSpacing;
+    private int builtWidth;
+    private int builtHeight;
+    private boolean dirty;
+
+    // Statistik
+    private int rebuildCount;
+    private int visibleDots;
+
+    public DotGridRenderer(DotGrid grid) {
+        this.grid = grid;
+        this.shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            throw new GdxRuntimeException("DotGrid-Shader: " + shader.getLog());
+        }
+        this.dirty = true;
+    }
+
+    /**
+     * Erzwingt einen Neuaufbau beim nächsten render()
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    public void render(OrthographicCamera camera) {
+        if (dirty || builtSpacing != grid.getSpacing()
+            || builtWidth != grid.getGridWidth() || builtHeight != grid.getGridHeight()) {
+            rebuild();
+        }
+
+        float spacing = grid.getSpacing();
+        float radius = grid.getDotRadius();
+        float halfWidth = camera.viewportWidth * camera.zoom / 2f;
+        float halfHeight = camera.viewportHeight * camera.zoom / 2f;
+
+        // Sichtbarer Bereich in Grid-Koordinaten
+        int minX = MathUtils.clamp(MathUtils.floor((camera.position.x - halfWidth - radius) / spacing), 0, builtWidth - 1);
+        int maxX = MathUtils.clamp(MathUtils.ceil((camera.position.x + halfWidth + radius) / spacing), 0, builtWidth - 1);
+        int minY = MathUtils.clamp(MathUtils.floor((camera.position.y - halfHeight - radius) / spacing), 0, builtHeight - 1);
+        int maxY = MathUtils.clamp(MathUtils.ceil((camera.position.y + halfHeight + radius) / spacing), 0, builtHeight - 1);
+
+        Color color = grid.getDotColor();
+        int columns = maxX - minX + 1;
+
+        shader.bind();
+        shader.setUniformMatrix("u_projTrans", camera.combined);
+        shader.setUniformf("u_color", color.r, color.g, color.b, color.a);
+
+        mesh.bind(shader);
+        if (columns == builtWidth) {
+            // Ganze Zeilen sichtbar: ein zusammenhängender Bereich
+            mesh.render(shader, GL20.GL_TRIANGLES,
+                minY * builtWidth * VERTICES_PER_DOT,
+                (maxY - minY + 1) * builtWidth * VERTICES_PER_DOT, false);
+        } else {
+            for (int y = minY; y <= maxY; y++) {
+                mesh.render(shader, GL20.GL_TRIANGLES,
+                    (y * builtWidth + minX) * VERTICES_PER_DOT,
+                    columns * VERTICES_PER_DOT, false);
+            }
+        }
+        mesh.unbind(shader);
+
+        visibleDots = columns * (maxY - minY + 1);
+    }
+
+    private void rebuild() {
+        builtSpacing = grid.getSpacing();
+        builtWidth = grid.getGridWidth();
+        builtHeight = grid.getGridHeight();
+        dirty = false;
+        rebuildCount++;
+
+        int vertexCount = builtWidth * builtHeight * VERTICES_PER_DOT;
+        int floatCount = vertexCount * FLOATS_PER_VERTEX;
+
+        // Puffer wachsen nur
+        if (vertices == null || vertices.length < floatCount) {
+            vertices = new float[floatCount];
+        }
+        if (mesh == null || mesh.getMaxVertices() < vertexCount) {
+            if (mesh != null) mesh.dispose();
+            mesh = new Mesh(true, vertexCount, 0,
+                new VertexAttribute(VertexAttributes.Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE),
+                new VertexAttribute(VertexAttributes.Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+        }
+
+        float r = grid.getDotRadius();
+        int i = 0;
+
+        // Zeilenweise, damit sichtbare Zeilen zusammenhängend im Mesh liegen
+        for (int y = 0; y < builtHeight; y++) {
+            float cy = y * builtSpacing;
+            for (int x = 0; x < builtWidth; x++) {
+                float cx = x * builtSpacing;
+
+                i = vertex(i, cx - r, cy - r, -1f, -1f);
+                i = vertex(i, cx + r, cy - r, 1f, -1f);
+                i = vertex(i, cx + r, cy + r, 1f, 1f);
+
+                i = vertex(i, cx + r, cy + r, 1f, 1f);
+                i = vertex(i, cx - r, cy + r, -1f, 1f);
+                i = vertex(i, cx - r, cy - r, -1f, -1f);
+            }
+        }
+
+        mesh.setVertices(vertices, 0, floatCount);
+    }
+
+    private int vertex(int i, float x, float y, float u, float v) {
+        vertices[i] = x;
+        vertices[i + 1] = y;
+        vertices[i + 2] = u;
+        vertices[i + 3] = v;
+        return i + FLOATS_PER_VERTEX;
+    }
+
+    // Getter
+    public int getRebuildCount() {
+        return rebuildCount;
+    }
+
+    public int getVisibleDots() {
+        return visibleDots;
+    }
+
+    @Override
+    public void dispose() {
+        if (mesh != null) mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,155 @@
+package game.samples.nav01;
+
+import java.util.Arrays;
+
+/**
+ * Flow-Field zu einem gemeinsamen Ziel.
+ *
+ * Das Integrationsfeld enthält pro Zelle die Schrittzahl bis zum Ziel
+ * (Dijkstra vom Ziel aus - bei einheitlichen Kosten eine Breitensuche),
+ * das Richtungsfeld pro Zelle den nächsten Schritt. Einheiten lesen ihre
+ * Richtung in O(1), blockierte Zellen werden umgangen. Die Berechnung
+ * läuft schrittweise über mehrere Frames (siehe advance), nahe Zellen sind
+ * dabei zuerst fertig.
+ */
+public class FlowField {
+    public static final byte NONE = 0;
+    public static final byte RIGHT = 1;
+    public static final byte LEFT = 2;
+    public static final byte UP = 3;
+    public static final byte DOWN = 4;
+
+    private static final int UNREACHED = -1;
+
+    private int gridWidth;
+    private int gridHeight;
+
+    private int[] integration; // Schritte bis zum Ziel
+    private byte[] direction;  // Richtung zur nächsten Zelle
+
+    // Warteschlange der Breitensuche
+    private int[] queue;
+    private int queueHead;
+    private int queueTail;
+
+    private int goalCell;
+    private boolean complete;
+
+    // Optional: blockierte Zellen
+    private ObstacleLayer obstacles;
+
+    public FlowField(int gridWidth, int gridHeight) {
+        this.goalCell = -1;
+        resize(gridWidth, gridHeight);
+    }
+
+    /**
+     * Passt das Feld an eine neue Gittergröße an. Arrays wachsen nur.
+     * Das Feld ist danach leer und muss mit setGoal neu gestartet werden.
+     */
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+
+        int cellCount = gridWidth * gridHeight;
+        if (integration == null || cellCount > integration.length) {
+            integration = new int[cellCount];
+            direction = new byte[cellCount];
+            queue = new int[cellCount];
+        }
+
+        goalCell = -1;
+        complete = false;
+    }
+
+    /**
+     * Startet die Berechnung für ein neues Ziel
+     */
+    public void setGoal(int goalCell) {
+        int cellCount = gridWidth * gridHeight;
+        Arrays.fill(integration, 0, cellCount, UNREACHED);
+        Arrays.fill(direction, 0, cellCount, NONE);
+
+        this.goalCell = goalCell;
+        this.complete = false;
+
+        integration[goalCell] = 0;
+        queueHead = 0;
+        queueTail = 0;
+        queue[queueTail++] = goalCell;
+    }
+
+    /**
+     * Rechnet höchstens maxCells Zellen weiter
+     * @return true wenn das Feld vollständig ist
+     */
+    public boolean advance(int maxCells) {
+        if (complete || goalCell < 0) return complete;
+
+        int processed = 0;
+        while (queueHead < queueTail && processed < maxCells) {
+            int cell = queue[queueHead++];
+            int x = cell % gridWidth;
+            int y = cell / gridWidth;
+            int nextCost = integration[cell] + 1;
+
+            // Nachbarn zeigen jeweils zurück auf diese Zelle
+            if (x + 1 < gridWidth) visit(cell + 1, nextCost, LEFT);
+            if (x > 0) visit(cell - 1, nextCost, RIGHT);
+            if (y + 1 < gridHeight) visit(cell + gridWidth, nextCost, DOWN);
+            if (y > 0) visit(cell - gridWidth, nextCost, UP);
+
+            processed++;
+        }
+
+        complete = queueHead >= queueTail;
+        return complete;
+    }
+
+    private void visit(int cell, int cost, byte dir) {
+        if (integration[cell] != UNREACHED) return;
+
+        integration[cell] = cost;
+        direction[cell] = dir;
+
+        // Blockierte Zellen bekommen nur einen Weg hinaus, breiten sich aber nicht aus
+        if (obstacles == null || !obstacles.isBlocked(cell)) {
+            queue[queueTail++] = cell;
+        }
+    }
+
+    /**
+     * Nächste Zelle auf dem Weg zum Ziel
+     * @return Zell-Index oder -1 (Ziel erreicht oder noch nicht berechnet)
+     */
+    public int getNextCell(int cell) {
+        switch (direction[cell]) {
+            case RIGHT: return cell + 1;
+            case LEFT: return cell - 1;
+            case UP: return cell + gridWidth;
+            case DOWN: return cell - gridWidth;
+            default: return -1;
+        }
+    }
+
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+    }
+
+    // Getter
+    public byte getDirection(int cell) {
+        return direction[cell];
+    }
+
+    public int getIntegration(int cell) {
+        return integration[cell];
+    }
+
+    public int getGoalCell() {
+        return goalCell;
+    }
+
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,112 @@
+package game.samples.nav01;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hält Flow-Fields pro Ziel-Zelle vor (LRU). Häufig genutzte Ziele kosten
+ * so nichts mehr; verdrängte und verworfene Felder werden für das nächste
+ * Ziel recycelt. Insgesamt gibt es höchstens capacity Felder.
+ */
+public class FlowFieldCache implements ObstacleLayer.Listener {
+    private final int capacity;
+    private final LinkedHashMap<Integer, FlowField> fields;
+    private final ArrayList<FlowField> freeFields; // verworfen, Arrays noch vorhanden
+
+    private int gridWidth;
+    private int gridHeight;
+    private ObstacleLayer obstacles;
+
+    // Statistik
+    private int hits;
+    private int misses;
+
+    public FlowFieldCache(int gridWidth, int gridHeight, int capacity) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.capacity = capacity;
+        this.fields = new LinkedHashMap<>(capacity * 2, 0.75f, true); // access-order = LRU
+        this.freeFields = new ArrayList<>(capacity);
+    }
+
+    /**
+     * Liefert das Feld zum Ziel; bei einem Miss wird es (schrittweise) neu berechnet
+     */
+    public FlowField get(int goalCell) {
+        FlowField field = fields.get(goalCell);
+        if (field != null) {
+            hits++;
+            return field;
+        }
+
+        misses++;
+        field = obtain();
+        field.setGoal(goalCell);
+        fields.put(goalCell, field);
+        return field;
+    }
+
+    private FlowField obtain() {
+        if (!freeFields.isEmpty()) {
+            // Gittergröße und Hindernisse können sich seit dem Verwerfen geändert haben
+            FlowField field = freeFields.remove(freeFields.size() - 1);
+            field.resize(gridWidth, gridHeight);
+            field.setObstacleLayer(obstacles);
+            return field;
+        }
+
+        if (fields.size() < capacity) {
+            FlowField field = new FlowField(gridWidth, gridHeight);
+            field.setObstacleLayer(obstacles);
+            return field;
+        }
+
+        // Ältestes Feld verdrängen und wiederverwenden
+        Iterator<Map.Entry<Integer, FlowField>> iter = fields.entrySet().iterator();
+        FlowField eldest = iter.next().getValue();
+        iter.remove();
+        return eldest;
+    }
+
+    /**
+     * Verwirft alle Felder (z.B. wenn sich das Gitter ändert), ihre Arrays werden wiederverwendet
+     */
+    public void invalidateAll() {
+        freeFields.addAll(fields.values());
+        fields.clear();
+    }
+
+    /**
+     * Ein Flow-Field hängt von der ganzen Map ab - jede Änderung verwirft alle Felder
+     */
+    @Override
+    public void obstaclesChanged(int minX, int minY, int maxX, int maxY) {
+        invalidateAll();
+    }
+
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+        invalidateAll();
+    }
+
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        invalidateAll();
+    }
+
+    // Getter
+    public int size() {
+        return fields.size();
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,37 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Pfadsuche über das 4er-Nachbarschafts-Gitter des DotGrid.
+ * Zellen werden als int-Index (y * gridWidth + x) adressiert.
+ */
+public interface GridPathfinder {
+
+    /**
+     * Sucht einen kürzesten Pfad von startCell nach goalCell.
+     * outPath enthält danach die Zellen ohne Start, inklusive Ziel.
+     * @return true wenn ein Pfad gefunden wurde
+     */
+    boolean findPath(int startCell, int goalCell, IntArray outPath);
+
+    /**
+     * Passt den Pathfinder an eine neue Gittergröße an
+     */
+    void resize(int gridWidth, int gridHeight);
+
+    void setObstacleLayer(ObstacleLayer obstacles);
+
+    ObstacleLayer getObstacleLayer();
+
+    int toCell(int gridX, int gridY);
+
+    int getGridWidth();
+
+    int getGridHeight();
+
+    /**
+     * Anzahl expandierter Knoten der letzten Anfrage
+     */
+    int getExpandedNodes();
+}
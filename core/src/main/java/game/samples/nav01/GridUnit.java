@@ -3,332 +3,710 @@ package game.samples.nav01;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntArray;
+import game.samples.common.TriangleBatch;
 
 /**
- * Bewegung am Grid
+ * Bewegung am Grid.
+ *
+ * Position, Rotation und Zustand liegen im UnitStore; die Bewegung selbst
+ * rechnet UnitStore.update() für alle Einheiten auf einmal. GridUnit trifft
+ * nur die Entscheidungen: nächster Schritt, Pfadsuche, Reservierungen.
+ *
+ * Pro Frame zwei Phasen: decide() ändert nur Daten dieser Einheit und darf
+ * parallel laufen, commit() erledigt alles mit gemeinsamen Daten (Pathfinder,
+ * PathService, Reservierungen) und läuft seriell in fester Reihenfolge.
  */
 public class GridUnit {
-    private Vector2 position;
-    private Vector2 gridPosition;
-    private Vector2 targetGridPosition;
-    private Vector2 nextGridPosition;
+    // Wie lange auf eine belegte Zelle gewartet wird, bevor neu geplant wird (Flow-Field: ausgewichen)
+    private static final float MAX_CELL_WAIT_TIME = 1.5f;
 
-    private float rotation;
-    private float targetRotation;
+    // Nachbarn zum Ausweichen (rechts, oben, links, unten)
+    private static final int[] SIDESTEP_DX = { 1, 0, -1, 0 };
+    private static final int[] SIDESTEP_DY = { 0, 1, 0, -1 };
 
-    private float size;
-    private Color color;
+    private static final Color tmpColor = new Color();
 
-    private enum State {
-        ROTATING,
-        MOVING
-    }
-    private State state;
+    private final int id;
+    private final UnitStore store;
+    private final int index; // Slot im UnitStore
 
-    private float moveSpeed;
-    private float rotationSpeed;
+    private float size;
 
-    private float gridSpacing;
     private float mapWidth;
     private float mapHeight;
 
-    private Vector2 moveDirection;
-
-    public GridUnit(float gridX, float gridY, float gridSpacing, float mapWidth, float mapHeight) {
-        this.gridPosition = new Vector2(gridX, gridY);
-        this.nextGridPosition = new Vector2(gridX, gridY);
-        this.position = new Vector2(gridX * gridSpacing, gridY * gridSpacing);
-        this.gridSpacing = gridSpacing;
+    // Pfadsuche
+    private GridPathfinder pathfinder;
+    private IntArray path;  // Zellen bis zum Ziel (ohne aktuelle Zelle)
+    private int pathIndex;
+    private int pathVersion; // Hindernis-Version bei der Planung
+
+    // Optional: Pfade gebündelt über den PathService (null = sofort selbst rechnen)
+    private PathService pathService;
+    private final PathService.Request pathRequest = new PathService.Request();
+    private boolean waitingForPath;
+
+    // Optional: Ziele nur unter diesen Zellen wählen (null = überall)
+    private IntArray waypoints;
+
+    // Flow-Field Modus (gemeinsames Ziel), null = eigene Pfadsuche
+    private FlowField flowField;
+
+    // Zell-Reservierungen (null = Einheiten laufen durcheinander hindurch)
+    private ReservationTable reservations;
+    private boolean nextCellReserved;
+    private boolean waitingForCell;
+    private float waitTimer;
+    private boolean sharesCell;  // eigene Zelle gehört schon einer anderen Einheit
+    private boolean sidestepped; // nach dem Ausweichschritt neu planen
+
+    // Ereignisse statt Konsolenausgabe (null = keine)
+    private UnitEventLog eventLog;
+
+    // Zufall pro Einheit (xorshift), damit die Zielwahl nicht von der Update-Reihenfolge abhängt
+    private long randomState;
+
+    // In decide() aufgeschoben, erledigt in commit()
+    private boolean deferShared;
+    private boolean pendingPlan;
+    private int pendingRequestStart = -1;
+    private boolean pendingRequestIdle;
+    private boolean pendingPromote;
+    private boolean pendingCancel;
+
+    public GridUnit(int id, UnitStore store, int gridX, int gridY, float mapWidth, float mapHeight,
+                    GridPathfinder pathfinder) {
+        this.id = id;
+        this.store = store;
         this.mapWidth = mapWidth;
         this.mapHeight = mapHeight;
 
         this.size = 10f;
-        this.color = new Color(
+        int color = Color.rgba8888(
             0.5f + MathUtils.random() * 0.5f,
             0.5f + MathUtils.random() * 0.5f,
             0.5f + MathUtils.random() * 0.5f,
             1f
         );
 
-        this.rotation = MathUtils.random(0f, 360f);
-        this.targetRotation = 0f;
-        this.state = State.ROTATING;
+        // Ziel wird im ersten decide() gewählt
+        this.index = store.add(pathfinder.toCell(gridX, gridY), MathUtils.random(0f, 360f), 100f, 180f, color);
 
-        this.moveSpeed = 100f;
-        this.rotationSpeed = 180f;
-
-        this.moveDirection = new Vector2();
+        this.pathfinder = pathfinder;
+        this.path = new IntArray();
+        this.pathIndex = 0;
+        this.randomState = (id + 1) * 0x9E3779B97F4A7C15L;
+    }
 
-        selectRandomTarget();
+    /**
+     * Phase 1 (parallel möglich): nächster Schritt, Zielwahl, Pfad übernehmen.
+     * Pfadsuche und PathService-Anfragen werden nur vorgemerkt.
+     */
+    public void decide(float deltaTime) {
+        deferShared = true;
+
+        byte state = store.getState(index);
+        if (state == UnitStore.ARRIVED) {
+            onCellReached();
+        } else if (state == UnitStore.WAITING && !waitingForCell) {
+            updateWaiting();
+        }
 
-        System.out.println("Unit erstellt bei Grid (" + (int)gridX + ", " + (int)gridY + ")");
+        deferShared = false;
     }
 
-    public void update(float deltaTime) {
-        switch (state) {
-            case ROTATING:
-                updateRotation(deltaTime);
-                break;
-            case MOVING:
-                updateMovement(deltaTime);
-                break;
+    /**
+     * Phase 2 (seriell, in Einheiten-Reihenfolge): Reservierungen, Pfadsuche,
+     * PathService. Drehen und Laufen erledigt danach UnitStore.update().
+     */
+    public void commit(float deltaTime) {
+        if (reservations != null) {
+            holdReservations();
         }
-    }
 
-    private void updateRotation(float deltaTime) {
-        float diff = targetRotation - rotation;
+        // Warteschlange des PathService nur hier ändern
+        if (pendingCancel) {
+            pendingCancel = false;
+            pathService.cancel(pathRequest);
+        }
+        if (pendingPromote) {
+            pendingPromote = false;
+            pathService.promote(pathRequest);
+        }
+        if (pendingRequestStart >= 0) {
+            pathService.submit(pathRequest, pathfinder, pendingRequestStart, store.getTargetCell(index), pendingRequestIdle);
+            pendingRequestStart = -1;
+        }
 
-        while (diff > 180f) diff -= 360f;
-        while (diff < -180f) diff += 360f;
+        if (pendingPlan) {
+            pendingPlan = false;
+            planPath();
+            calculateNextStep();
+        }
 
-        if (Math.abs(diff) < 2f) {
-            rotation = targetRotation;
-            state = State.MOVING;
-            System.out.println("Rotation fertig. Bewege zu Grid (" +
-                (int)nextGridPosition.x + ", " + (int)nextGridPosition.y + ")");
-            return;
+        if (waitingForCell) {
+            updateCellWait(deltaTime);
         }
 
-        float rotationThisFrame = rotationSpeed * deltaTime;
+        if (store.getState(index) == UnitStore.DEPARTING) {
+            depart();
+        }
 
-        if (Math.abs(diff) < rotationThisFrame) {
-            rotation = targetRotation;
-            state = State.MOVING;
-        } else {
-            if (diff > 0) {
-                rotation += rotationThisFrame;
-            } else {
-                rotation -= rotationThisFrame;
-            }
+        // Zwei Einheiten auf einer Zelle (gemeinsam gespawnt oder hineingeschoben):
+        // die später reservierende weicht aus, sofern sie nicht ohnehin losläuft
+        if (sharesCell && reservations != null && !nextCellReserved && !waitingForPath && pendingRequestStart < 0
+                && store.getState(index) != UnitStore.MOVING) {
+            sidestep();
         }
+    }
 
-        normalizeRotation();
+    /**
+     * Hält die aktuelle (und beim Bewegen die nächste) Zelle für jetzt und den nächsten Tick.
+     * Gehört die aktuelle Zelle schon einer anderen Einheit, wird sharesCell gesetzt.
+     */
+    private void holdReservations() {
+        int now = reservations.getCurrentTick();
+
+        int cell = currentCell();
+        boolean held = reservations.reserve(cell, now, id);
+        held &= reservations.reserve(cell, now + 1, id);
+        sharesCell = !held;
+
+        if (nextCellReserved) {
+            int nextCell = nextCell();
+            reservations.reserve(nextCell, now, id);
+            reservations.reserve(nextCell, now + 1, id);
+        }
     }
 
-    private void updateMovement(float deltaTime) {
-        // Ziel-Position in World-Koordinaten (nächster Grid-Punkt)
-        Vector2 nextWorldPos = new Vector2(
-            nextGridPosition.x * gridSpacing,
-            nextGridPosition.y * gridSpacing
-        );
+    /**
+     * Reserviert die nächste Zelle für die Dauer des Schritts
+     * @return false wenn eine andere Einheit sie belegt
+     */
+    private boolean tryReserveNextCell() {
+        return tryReserveCell(nextCell());
+    }
 
-        // Berechne Distanz
-        Vector2 toNext = new Vector2(nextWorldPos).sub(position);
-        float distance = toNext.len();
+    private boolean tryReserveCell(int cell) {
+        int now = reservations.getCurrentTick();
+        float travelTime = store.getGridSpacing() / store.getMoveSpeed(index);
+        int travelTicks = MathUtils.ceil(travelTime / reservations.getTickDuration());
+        return reservations.reserveRange(cell, now, now + travelTicks + 1, id);
+    }
 
-        // Bewegungsdistanz diesen Frame
-        float moveDistance = moveSpeed * deltaTime;
+    /**
+     * Weicht auf einen freien Nachbarn aus (kein Hindernis, für die Dauer des Schritts
+     * reservierbar), Startrichtung zufällig. Nach der Ankunft wird neu geplant.
+     * @return false wenn alle Nachbarn belegt sind (dann im nächsten Frame erneut)
+     */
+    private boolean sidestep() {
+        int cell = currentCell();
+        int gridWidth = pathfinder.getGridWidth();
+        int gridHeight = pathfinder.getGridHeight();
+        int x = cell % gridWidth;
+        int y = cell / gridWidth;
+        ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+
+        int first = nextRandom(4);
+        for (int k = 0; k < 4; k++) {
+            int direction = (first + k) & 3;
+            int neighbourX = x + SIDESTEP_DX[direction];
+            int neighbourY = y + SIDESTEP_DY[direction];
+            if (neighbourX < 0 || neighbourY < 0 || neighbourX >= gridWidth || neighbourY >= gridHeight) continue;
+
+            int neighbour = pathfinder.toCell(neighbourX, neighbourY);
+            if (obstacles != null && obstacles.isBlocked(neighbour)) continue;
+            if (!tryReserveCell(neighbour)) continue;
+
+            waitingForCell = false;
+            sharesCell = false;
+            sidestepped = true;
+            nextCellReserved = true;
+            store.setStep(index, neighbour);
+            log(UnitEventLog.SIDESTEP, neighbour);
+            return true;
+        }
+        return false;
+    }
 
-        // Wenn wir den nächsten Grid-Punkt erreichen
-        if (distance <= moveDistance) {
-            // Snap zur Grid-Position
-            position.set(nextWorldPos);
-            gridPosition.set(nextGridPosition);
+    private void updateWaiting() {
+        if (waitingForPath) {
+            if (pathRequest.isDone()) {
+                adoptPath();
+                calculateNextStep();
+            }
+            return;
+        }
+
+        if (flowField == null) {
+            // Gerade gespawnt oder Flow-Field Modus beendet (ggf. über den PathService)
+            selectRandomTarget();
+            return;
+        }
 
-            System.out.println("Grid-Punkt erreicht: (" + (int)gridPosition.x + ", " + (int)gridPosition.y + ")");
+        // Feld inzwischen bis hierher berechnet?
+        if (flowField.getNextCell(currentCell()) >= 0) {
+            calculateNextStep();
+        }
+    }
 
-            // Prüfe ob finales Ziel erreicht
-            if (gridPosition.equals(targetGridPosition)) {
-                System.out.println("FINALES ZIEL ERREICHT!");
+    /**
+     * Wartet auf eine von einer anderen Einheit belegte Zelle
+     */
+    private void updateCellWait(float deltaTime) {
+        waitTimer += deltaTime;
+
+        if (reservations == null || tryReserveNextCell()) {
+            // Zelle frei - weiter
+            waitingForCell = false;
+            nextCellReserved = reservations != null;
+            store.setState(index, UnitStore.MOVING);
+        } else if (waitTimer > MAX_CELL_WAIT_TIME) {
+            log(UnitEventLog.CELL_BLOCKED, currentCell());
+            if (flowField == null) {
+                // Zu lange blockiert - neu planen
+                waitingForCell = false;
                 selectRandomTarget();
-            } else {
-                // Berechne nächsten Schritt zum Ziel
-                calculateNextStep();
+            } else if (!sidestep()) {
+                // Flow-Field: alle Nachbarn belegt, später erneut versuchen
+                waitTimer = 0f;
             }
+        }
+    }
 
+    /**
+     * Prüfungen vor dem Losgehen (Schritt geplant, Drehung fertig)
+     */
+    private void depart() {
+        int cell = currentCell();
+        int nextCell = nextCell();
+
+        // Nächste Zelle inzwischen blockiert? Dann neu planen
+        ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+        if (obstacles != null && nextCell != cell && obstacles.isBlocked(nextCell)) {
+            log(UnitEventLog.PATH_BLOCKED, cell);
+            if (flowField == null) {
+                planPath();
+            }
+            calculateNextStep();
             return;
         }
 
-        // Normale Bewegung zum nächsten Grid-Punkt
-        toNext.nor();
-        position.add(toNext.x * moveDistance, toNext.y * moveDistance);
+        // Vor dem Losgehen die nächste Zelle reservieren
+        if (reservations != null && !nextCellReserved && nextCell != cell) {
+            if (!tryReserveNextCell()) {
+                store.setState(index, UnitStore.WAITING);
+                waitingForCell = true;
+                waitTimer = 0f;
+                return;
+            }
+            nextCellReserved = true;
+        }
+
+        store.setState(index, UnitStore.MOVING);
     }
 
-    private void calculateNextStep() {
-        // Berechne Richtung zum finalen Ziel
-        Vector2 toTarget = new Vector2(targetGridPosition).sub(gridPosition);
-
-        float dx = 0;
-        float dy = 0;
-
-        // NUR horizontal oder vertikal (KEINE Diagonale!)
-        // Entscheide welche Achse zuerst bewegt wird
-        if (Math.abs(toTarget.x) > Math.abs(toTarget.y)) {
-            // Horizontale Bewegung hat Priorität
-            dx = Math.signum(toTarget.x);
-            dy = 0;
-        } else {
-            // Vertikale Bewegung hat Priorität
-            dx = 0;
-            dy = Math.signum(toTarget.y);
+    /**
+     * Grid-Punkt erreicht (UnitStore hat Position und Zelle schon übernommen)
+     */
+    private void onCellReached() {
+        int cell = currentCell();
+        log(UnitEventLog.CELL_REACHED, cell);
+
+        // Nach dem Ausweichen passt der Restpfad nicht mehr
+        if (sidestepped) {
+            sidestepped = false;
+            if (flowField == null && cell != store.getTargetCell(index)) {
+                planPath();
+                calculateNextStep();
+                return;
+            }
         }
 
-        // Setze nächsten Grid-Punkt
-        nextGridPosition.set(
-            gridPosition.x + dx,
-            gridPosition.y + dy
-        );
+        // Prüfe ob finales Ziel erreicht
+        if (flowField != null) {
+            // Flow-Field bestimmt den nächsten Schritt
+            calculateNextStep();
+        } else if (cell == store.getTargetCell(index)) {
+            log(UnitEventLog.GOAL_REACHED, cell);
+            selectRandomTarget();
+        } else if (pathIndex >= path.size) {
+            // Pfad zu Ende ohne Ziel (nicht erreichbar) - neues Ziel
+            selectRandomTarget();
+        } else {
+            if (pathService != null && (pathRequest.isQueued() || pathRequest.isDone())) {
+                if (pathRequest.getStartCell() == cell) {
+                    // Neuplanung ab dieser Zelle: fertig übernehmen, sonst darauf warten
+                    if (pathRequest.isDone()) {
+                        adoptPath();
+                    } else {
+                        promotePathRequest();
+                        waitingForPath = true;
+                    }
+                } else {
+                    pendingCancel = true; // erst in commit()
+                }
+            }
 
-        // Berechne Bewegungsrichtung
-        moveDirection.set(dx, dy).nor();
+            // Restpfad durch neue Hindernisse blockiert? Dann neu planen
+            if (!waitingForPath && isPathOutdated()) {
+                if (pathService != null && pathIndex < path.size) {
+                    // Einen Schritt weiterlaufen und ab dort im Hintergrund planen
+                    requestPath(path.get(pathIndex), false);
+                } else {
+                    planPath();
+                }
+            }
+            // Berechne nächsten Schritt zum Ziel
+            calculateNextStep();
+        }
+    }
 
-        // Berechne benötigte Rotation
-        float newTargetRotation = (float)Math.toDegrees(Math.atan2(dy, dx));
+    private void calculateNextStep() {
+        // Reservierung gilt für den alten Schritt
+        nextCellReserved = false;
 
-        // Prüfe ob Rotation nötig
-        float rotDiff = newTargetRotation - rotation;
-        while (rotDiff > 180f) rotDiff -= 360f;
-        while (rotDiff < -180f) rotDiff += 360f;
+        if (waitingForPath || pendingPlan) {
+            // Pfad kommt noch vom PathService bzw. aus commit()
+            store.stop(index);
+            return;
+        }
 
-        if (Math.abs(rotDiff) > 5f) {
+        int cell = currentCell();
+        int nextCell = cell;
+        if (flowField != null) {
+            // Richtung aus dem Flow-Field lesen (O(1))
+            nextCell = flowField.getNextCell(cell);
+            if (nextCell < 0) {
+                // Am Ziel oder Feld noch nicht bis hierher berechnet
+                store.stop(index);
+                return;
+            }
+        } else if (pathIndex < path.size) {
+            // Nächste Zelle aus dem berechneten Pfad (nur horizontal oder vertikal)
+            nextCell = path.get(pathIndex++);
+        }
+
+        if (store.setStep(index, nextCell)) {
             // Richtungswechsel - rotieren
-            targetRotation = newTargetRotation;
-            state = State.ROTATING;
-            System.out.println("Richtungswechsel bei Grid (" + (int)gridPosition.x + ", " + (int)gridPosition.y +
-                ") - Rotiere zu " + targetRotation + "°");
+            log(UnitEventLog.TURNING, cell);
         } else {
             // Keine Rotation nötig, weiterbewegen
-            rotation = newTargetRotation;
-            System.out.println("Bewege weiter zu Grid (" + (int)nextGridPosition.x + ", " + (int)nextGridPosition.y + ")");
+            log(UnitEventLog.STEP, nextCell);
         }
     }
 
     private void selectRandomTarget() {
+        float gridSpacing = store.getGridSpacing();
         int maxGridX = (int)(mapWidth / gridSpacing);
         int maxGridY = (int)(mapHeight / gridSpacing);
+        int gridWidth = pathfinder.getGridWidth();
+        int cell = currentCell();
 
         // Wähle zufällige Grid-Position
         int targetX, targetY;
         int attempts = 0;
         do {
-            targetX = MathUtils.random(0, maxGridX - 1);
-            targetY = MathUtils.random(0, maxGridY - 1);
+            if (waypoints != null && waypoints.size > 0) {
+                int waypoint = waypoints.get(nextRandom(waypoints.size));
+                targetX = waypoint % gridWidth;
+                targetY = waypoint / gridWidth;
+            } else {
+                targetX = nextRandom(maxGridX);
+                targetY = nextRandom(maxGridY);
+            }
             attempts++;
-        } while ((targetX == (int)gridPosition.x && targetY == (int)gridPosition.y) && attempts < 10);
+        } while ((pathfinder.toCell(targetX, targetY) == cell || isBlocked(targetX, targetY)) && attempts < 10);
 
-        targetGridPosition = new Vector2(targetX, targetY);
+        store.setTargetCell(index, pathfinder.toCell(targetX, targetY));
 
-        System.out.println("=== NEUES ZIEL ===");
-        System.out.println("Von Grid (" + (int)gridPosition.x + ", " + (int)gridPosition.y + ")");
-        System.out.println("Zu Grid (" + (int)targetGridPosition.x + ", " + (int)targetGridPosition.y + ")");
-        System.out.println("==================");
+        log(UnitEventLog.NEW_TARGET, store.getTargetCell(index));
+
+        planPath();
 
         // Berechne ersten Schritt
         calculateNextStep();
     }
 
-    private void normalizeRotation() {
-        while (rotation >= 360f) rotation -= 360f;
-        while (rotation < 0f) rotation += 360f;
+    /**
+     * Berechnet den Pfad von der aktuellen Grid-Position zum Ziel
+     */
+    private void planPath() {
+        if (pathService != null) {
+            requestPath(currentCell(), true);
+            return;
+        }
+        if (deferShared) {
+            pendingPlan = true;
+            return;
+        }
+
+        int startCell = currentCell();
+        int goalCell = store.getTargetCell(index);
+
+        pathIndex = 0;
+        ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+        pathVersion = obstacles != null ? obstacles.getVersion() : 0;
+        if (!pathfinder.findPath(startCell, goalCell, path)) {
+            log(UnitEventLog.NO_PATH, store.getTargetCell(index));
+        }
+    }
+
+    /**
+     * Stellt eine Anfrage beim PathService (aus decide() heraus erst in commit())
+     * @param idle true = Einheit wartet ohne Pfad, false = läuft bis startCell weiter
+     */
+    private void requestPath(int startCell, boolean idle) {
+        if (deferShared) {
+            pendingRequestStart = startCell;
+            pendingRequestIdle = idle;
+        } else {
+            pathService.submit(pathRequest, pathfinder, startCell, store.getTargetCell(index), idle);
+        }
+
+        if (idle) {
+            waitingForPath = true;
+            path.clear();
+            pathIndex = 0;
+        }
+    }
+
+    /**
+     * Die Einheit wartet jetzt auf die offene Anfrage (aus decide() heraus erst in commit())
+     */
+    private void promotePathRequest() {
+        if (deferShared) {
+            pendingPromote = true;
+        } else {
+            pathService.promote(pathRequest);
+        }
+    }
+
+    /**
+     * Übernimmt den fertigen Pfad aus der Anfrage (ab der aktuellen Zelle)
+     */
+    private void adoptPath() {
+        waitingForPath = false;
+        pathIndex = 0;
+        pathVersion = pathRequest.getObstacleVersion();
+        boolean found = pathRequest.isFound();
+        path = pathRequest.takePath(path);
+
+        if (!found) {
+            log(UnitEventLog.NO_PATH, store.getTargetCell(index));
+        }
+    }
+
+    private void log(int type, int cell) {
+        if (eventLog != null) {
+            eventLog.add(type, id, cell);
+        }
+    }
+
+    /**
+     * Schaltet auf ein gemeinsames Flow-Field um (null = zurück zu eigenen Zielen)
+     */
+    public void setFlowField(FlowField flowField) {
+        this.flowField = flowField;
+        cancelPathRequest();
+
+        // Alter Pfad passt nicht mehr zur Position
+        pathIndex = path.size;
+
+        if (flowField != null) {
+            store.setTargetCell(index, flowField.getGoalCell());
+        }
+    }
+
+    /**
+     * Wechselt die Pfadsuche. Gilt ab der nächsten Pfadplanung.
+     */
+    public void setPathfinder(GridPathfinder pathfinder) {
+        this.pathfinder = pathfinder;
+    }
+
+    /**
+     * Ziele nur unter diesen Zellen wählen (null = zufällig überall). Gilt ab dem nächsten Ziel.
+     */
+    public void setWaypoints(IntArray waypoints) {
+        this.waypoints = waypoints;
+    }
+
+    /**
+     * Ereignisse in diesen Ringpuffer schreiben (null = keine)
+     */
+    public void setEventLog(UnitEventLog eventLog) {
+        this.eventLog = eventLog;
+    }
+
+    /**
+     * Pfade über den PathService anfragen (null = sofort selbst rechnen)
+     */
+    public void setPathService(PathService service) {
+        cancelPathRequest();
+        this.pathService = service;
+    }
+
+    private void cancelPathRequest() {
+        if (pathService != null) {
+            pathService.cancel(pathRequest);
+        }
+        waitingForPath = false;
+        pendingRequestStart = -1;
+        pendingPromote = false;
+        pendingCancel = false;
+    }
+
+    /**
+     * Zufallszahl in [0, bound) aus dem eigenen xorshift-Zustand
+     */
+    private int nextRandom(int bound) {
+        randomState ^= randomState << 13;
+        randomState ^= randomState >>> 7;
+        randomState ^= randomState << 17;
+        return (int)((randomState >>> 1) % bound);
     }
 
-    public void render(ShapeRenderer renderer) {
-        renderer.setColor(color);
+    /**
+     * Schaltet die Zell-Reservierungen ein (table) oder aus (null)
+     */
+    public void setReservationTable(ReservationTable table) {
+        this.reservations = table;
+        this.nextCellReserved = false;
+        this.sharesCell = false;
+    }
 
-        float halfSize = size / 2f;
+    /**
+     * Prüft den Restpfad nur, wenn sich die Hindernisse seit der Planung geändert haben
+     */
+    private boolean isPathOutdated() {
+        ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+        if (obstacles == null || obstacles.getVersion() == pathVersion) return false;
 
-        float x1 = position.x + size;
-        float y1 = position.y;
+        pathVersion = obstacles.getVersion();
+        for (int i = pathIndex; i < path.size; i++) {
+            if (obstacles.isBlocked(path.get(i))) return true;
+        }
+        return false;
+    }
 
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
+    private boolean isBlocked(int gridX, int gridY) {
+        ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+        return obstacles != null && obstacles.isBlocked(pathfinder.toCell(gridX, gridY));
+    }
 
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
+    private int currentCell() {
+        return store.getCell(index);
+    }
 
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
+    private int nextCell() {
+        return store.getNextCell(index);
+    }
 
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
+    /**
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
+     */
+    public void render(TriangleBatch triangles, float alpha) {
+        triangles.add(store.getRenderX(index, alpha), store.getRenderY(index, alpha), size,
+            store.getRenderRotation(index, alpha), store.getColor(index));
     }
 
     public void renderDebug(ShapeRenderer renderer) {
+        float gridSpacing = store.getGridSpacing();
+        int gridWidth = store.getGridWidth();
+        float positionX = store.getPositionX(index);
+        float positionY = store.getPositionY(index);
+        Color color = tmpColor;
+        Color.rgba8888ToColor(color, store.getColor(index));
+
         // Aktuelle Grid-Position (grün)
-        float currentX = gridPosition.x * gridSpacing;
-        float currentY = gridPosition.y * gridSpacing;
+        int cell = currentCell();
+        float currentX = (cell % gridWidth) * gridSpacing;
+        float currentY = (cell / gridWidth) * gridSpacing;
         renderer.setColor(0, 1, 0, 0.3f);
         renderer.circle(currentX, currentY, 8);
 
         // Nächster Grid-Punkt (gelb)
-        float nextX = nextGridPosition.x * gridSpacing;
-        float nextY = nextGridPosition.y * gridSpacing;
+        int nextCell = nextCell();
+        float nextX = (nextCell % gridWidth) * gridSpacing;
+        float nextY = (nextCell / gridWidth) * gridSpacing;
         renderer.setColor(1, 1, 0, 0.5f);
         renderer.circle(nextX, nextY, 6);
 
         // Finales Ziel (rot)
-        float targetX = targetGridPosition.x * gridSpacing;
-        float targetY = targetGridPosition.y * gridSpacing;
+        int targetCell = store.getTargetCell(index);
+        float targetX = (targetCell % gridWidth) * gridSpacing;
+        float targetY = (targetCell / gridWidth) * gridSpacing;
         renderer.setColor(1, 0, 0, 0.5f);
         renderer.circle(targetX, targetY, 10);
 
         // Pfad zum finalen Ziel (gerade Linie)
         renderer.setColor(color.r, color.g, color.b, 0.3f);
-        renderer.line(position.x, position.y, targetX, targetY);
+        renderer.line(positionX, positionY, targetX, targetY);
 
         // Pfad zum nächsten Grid-Punkt
-        if (state == State.MOVING) {
+        if (store.getState(index) == UnitStore.MOVING) {
             renderer.setColor(1, 1, 0, 0.8f);
-            renderer.line(position.x, position.y, nextX, nextY);
+            renderer.line(positionX, positionY, nextX, nextY);
         }
 
-        // Manhattan-Pfad visualisieren (nur horizontal/vertikal)
+        // Berechneten Pfad visualisieren (nur horizontal/vertikal)
         renderer.setColor(color.r, color.g, color.b, 0.2f);
-        Vector2 current = new Vector2(gridPosition);
-        int steps = 0;
-        while (!current.equals(targetGridPosition) && steps < 200) {
-            Vector2 toTarget = new Vector2(targetGridPosition).sub(current);
-
-            float dx = 0;
-            float dy = 0;
-
-            // Entscheide Richtung (horizontal oder vertikal)
-            if (Math.abs(toTarget.x) > Math.abs(toTarget.y)) {
-                dx = Math.signum(toTarget.x);
-            } else {
-                dy = Math.signum(toTarget.y);
-            }
-
-            Vector2 next = new Vector2(current.x + dx, current.y + dy);
-
-            renderer.line(
-                current.x * gridSpacing, current.y * gridSpacing,
-                next.x * gridSpacing, next.y * gridSpacing
-            );
-
-            current.set(next);
-            steps++;
+        float fromX = nextX;
+        float fromY = nextY;
+        for (int i = pathIndex; i < path.size; i++) {
+            int pathCell = path.get(i);
+            float toX = (pathCell % gridWidth) * gridSpacing;
+            float toY = (pathCell / gridWidth) * gridSpacing;
+            renderer.line(fromX, fromY, toX, toY);
+            fromX = toX;
+            fromY = toY;
         }
     }
 
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = angleDeg * MathUtils.degreesToRadians;
-        float cos = MathUtils.cos(angleRad);
-        float sin = MathUtils.sin(angleRad);
+    public int getId() {
+        return id;
+    }
 
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
+    public GridPathfinder getPathfinder() {
+        return pathfinder;
+    }
 
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
+    public int getIndex() {
+        return index;
+    }
 
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
+    public float getPositionX() {
+        return store.getPositionX(index);
     }
 
-    public Vector2 getPosition() {
-        return position;
+    public float getPositionY() {
+        return store.getPositionY(index);
     }
 
-    public Vector2 getGridPosition() {
-        return gridPosition;
+    public int getCell() {
+        return currentCell();
     }
 
     public boolean isRotating() {
-        return state == State.ROTATING;
+        return store.getState(index) == UnitStore.ROTATING;
     }
 
     public boolean isMoving() {
-        return state == State.MOVING;
+        byte state = store.getState(index);
+        return state == UnitStore.MOVING || state == UnitStore.DEPARTING;
+    }
+
+    public boolean isWaiting() {
+        return store.getState(index) == UnitStore.WAITING;
+    }
+
+    public boolean isBlocked() {
+        return waitingForCell;
+    }
+
+    public boolean isWaitingForPath() {
+        return waitingForPath;
     }
 }
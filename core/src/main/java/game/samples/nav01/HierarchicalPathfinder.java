@@ -0,0 +1,541 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Hierarchische Pfadsuche (HPA*) über dem DotGrid.
+ *
+ * Das Gitter wird in quadratische Cluster zerlegt. Auf jeder Cluster-Grenze
+ * liegen Eingänge (Paare benachbarter freier Zellen), innerhalb eines Clusters
+ * sind die Abstände zwischen allen Eingängen vorberechnet. Lange Anfragen
+ * laufen zuerst über diesen kleinen abstrakten Graphen und werden danach
+ * abschnittsweise mit einem auf den Cluster begrenzten A* verfeinert.
+ *
+ * Ändern sich Hindernisse, werden nur die betroffenen Cluster (und ihre
+ * direkten Nachbarn an der Grenze) bei der nächsten Anfrage neu berechnet.
+ * Die Pfade sind nahezu, aber nicht immer exakt kürzeste Wege.
+ */
+public class HierarchicalPathfinder implements GridPathfinder, ObstacleLayer.Listener {
+    public static final int DEFAULT_CLUSTER_SIZE = 10;
+
+    // Ab dieser Länge bekommt ein Grenzabschnitt zwei Eingänge (an beiden Enden)
+    private static final int LONG_ENTRANCE = 6;
+    private static final int UNREACHED = -1;
+
+    /**
+     * Eingänge eines Clusters mit vorberechneten Abständen
+     */
+    private static class Cluster {
+        final IntArray nodes = new IntArray();      // Zellen der Eingänge (eindeutig)
+        final IntArray exitFrom = new IntArray();   // Knoten-Index im Cluster
+        final IntArray exitTo = new IntArray();     // Zelle im Nachbar-Cluster
+        int[] distances = new int[0];               // nodes.size * nodes.size, UNREACHED = getrennt
+    }
+
+    private final int clusterSize;
+    private int gridWidth;
+    private int gridHeight;
+    private int clustersX;
+    private int clustersY;
+
+    private Cluster[] clusters;
+    private boolean[] dirty;
+    private int dirtyCount;
+
+    // Abstrakte Suche (über Zellen adressiert, Generation-Stempel wie im A*)
+    private int[] gScore;
+    private int[] parent;
+    private int[] openStamp;
+    private int[] closedStamp;
+    private int generation;
+    private final IntMinHeap open;
+
+    // Breitensuche innerhalb eines Clusters
+    private int[] localDistance;
+    private int[] localQueue;
+    private int[] startDistances = new int[0];
+    private int[] goalDistances = new int[0];
+
+    // Verfeinerung
+    private final AStarPathfinder local;
+    private final IntArray abstractPath;
+    private final IntArray segment;
+
+    private ObstacleLayer obstacles;
+    private ObstacleLayer emptyLayer;
+
+    // Statistik
+    private int expandedNodes;
+    private int rebuiltClusters;
+
+    public HierarchicalPathfinder(int gridWidth, int gridHeight) {
+        this(gridWidth, gridHeight, DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalPathfinder(int gridWidth, int gridHeight, int clusterSize) {
+        this.clusterSize = clusterSize;
+        this.gScore = new int[0];
+        this.parent = new int[0];
+        this.openStamp = new int[0];
+        this.closedStamp = new int[0];
+        this.open = new IntMinHeap(16);
+        this.localDistance = new int[clusterSize * clusterSize];
+        this.localQueue = new int[clusterSize * clusterSize];
+        this.local = new AStarPathfinder(gridWidth, gridHeight);
+        this.abstractPath = new IntArray();
+        this.segment = new IntArray();
+        this.clusters = new Cluster[0];
+        resize(gridWidth, gridHeight);
+    }
+
+    /**
+     * Passt den Pathfinder an eine neue Gittergröße an. Alle Cluster werden neu berechnet.
+     */
+    @Override
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+        this.clustersX = (gridWidth + clusterSize - 1) / clusterSize;
+        this.clustersY = (gridHeight + clusterSize - 1) / clusterSize;
+
+        int cellCount = gridWidth * gridHeight;
+        if (cellCount > gScore.length) {
+            gScore = new int[cellCount];
+            parent = new int[cellCount];
+            openStamp = new int[cellCount];
+            closedStamp = new int[cellCount];
+            generation = 0;
+        }
+        open.ensureCapacity(cellCount);
+
+        int clusterCount = clustersX * clustersY;
+        if (clusterCount > clusters.length) {
+            Cluster[] grown = Arrays.copyOf(clusters, clusterCount);
+            for (int i = clusters.length; i < clusterCount; i++) {
+                grown[i] = new Cluster();
+            }
+            clusters = grown;
+            dirty = new boolean[clusterCount];
+        }
+
+        local.resize(gridWidth, gridHeight);
+        if (emptyLayer != null) {
+            emptyLayer.resize(gridWidth, gridHeight);
+        }
+        markAllDirty();
+    }
+
+    @Override
+    public boolean findPath(int startCell, int goalCell, IntArray outPath) {
+        outPath.clear();
+        expandedNodes = 0;
+
+        if (startCell == goalCell) return true;
+
+        ObstacleLayer layer = layer();
+        if (layer.isBlocked(goalCell)) return false;
+
+        if (dirtyCount > 0) {
+            rebuildDirtyClusters(layer);
+        }
+
+        int startCluster = clusterOf(startCell);
+        int goalCluster = clusterOf(goalCell);
+
+        // Kurze Wege im selben Cluster direkt suchen
+        if (startCluster == goalCluster && findLocal(startCell, goalCell, startCluster, outPath)) {
+            return true;
+        }
+
+        if (!findAbstractPath(layer, startCell, goalCell, startCluster, goalCluster)) {
+            return false;
+        }
+
+        // Abschnitte verfeinern: Grenzübergänge sind Nachbarzellen, der Rest liegt in einem Cluster
+        for (int i = 1; i < abstractPath.size; i++) {
+            int from = abstractPath.get(i - 1);
+            int to = abstractPath.get(i);
+            int fromCluster = clusterOf(from);
+
+            if (fromCluster != clusterOf(to)) {
+                outPath.add(to);
+            } else if (!findLocal(from, to, fromCluster, segment)) {
+                outPath.clear();
+                return false;
+            } else {
+                outPath.addAll(segment);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * A* über Eingänge. Start und Ziel werden dafür vorübergehend an die
+     * Eingänge ihres Clusters angebunden (Breitensuche im Cluster).
+     * Das Ergebnis (Start, Eingänge..., Ziel) steht danach in abstractPath.
+     */
+    private boolean findAbstractPath(ObstacleLayer layer, int startCell, int goalCell,
+                                     int startCluster, int goalCluster) {
+        abstractPath.clear();
+
+        Cluster start = clusters[startCluster];
+        Cluster goal = clusters[goalCluster];
+        startDistances = distancesToNodes(layer, startCell, startCluster, start, startDistances);
+        goalDistances = distancesToNodes(layer, goalCell, goalCluster, goal, goalDistances);
+
+        nextGeneration();
+        open.clear();
+
+        int goalX = goalCell % gridWidth;
+        int goalY = goalCell / gridWidth;
+
+        gScore[startCell] = 0;
+        parent[startCell] = -1;
+        openStamp[startCell] = generation;
+        open.add(startCell, 0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+
+            if (current == goalCell) {
+                for (int cell = goalCell; cell != -1; cell = parent[cell]) {
+                    abstractPath.add(cell);
+                }
+                abstractPath.reverse();
+                return true;
+            }
+
+            closedStamp[current] = generation;
+            expandedNodes++;
+
+            int g = gScore[current];
+
+            // Start: zu allen erreichbaren Eingängen des eigenen Clusters
+            if (current == startCell) {
+                for (int i = 0; i < start.nodes.size; i++) {
+                    if (startDistances[i] != UNREACHED) {
+                        relax(current, start.nodes.get(i), g + startDistances[i], goalX, goalY);
+                    }
+                }
+            }
+
+            int clusterIndex = clusterOf(current);
+            Cluster cluster = clusters[clusterIndex];
+            int node = cluster.nodes.indexOf(current);
+            if (node < 0) continue;
+
+            // Innerhalb des Clusters
+            int n = cluster.nodes.size;
+            for (int i = 0; i < n; i++) {
+                int distance = cluster.distances[node * n + i];
+                if (i != node && distance != UNREACHED) {
+                    relax(current, cluster.nodes.get(i), g + distance, goalX, goalY);
+                }
+            }
+
+            // Über die Grenze
+            for (int i = 0; i < cluster.exitFrom.size; i++) {
+                if (cluster.exitFrom.get(i) == node) {
+                    relax(current, cluster.exitTo.get(i), g + 1, goalX, goalY);
+                }
+            }
+
+            // Zum Ziel
+            if (clusterIndex == goalCluster && goalDistances[node] != UNREACHED) {
+                relax(current, goalCell, g + goalDistances[node], goalX, goalY);
+            }
+        }
+
+        return false;
+    }
+
+    private void relax(int from, int cell, int g, int goalX, int goalY) {
+        if (closedStamp[cell] == generation) return;
+
+        if (openStamp[cell] != generation || g < gScore[cell]) {
+            gScore[cell] = g;
+            parent[cell] = from;
+            int h = Math.abs(goalX - cell % gridWidth) + Math.abs(goalY - cell / gridWidth);
+
+            if (openStamp[cell] != generation) {
+                openStamp[cell] = generation;
+                open.add(cell, key(g + h, h));
+            } else {
+                open.addOrUpdate(cell, key(g + h, h));
+            }
+        }
+    }
+
+    /**
+     * A* auf den Cluster begrenzt
+     */
+    private boolean findLocal(int startCell, int goalCell, int clusterIndex, IntArray out) {
+        int minX = (clusterIndex % clustersX) * clusterSize;
+        int minY = (clusterIndex / clustersX) * clusterSize;
+        int maxX = Math.min(minX + clusterSize, gridWidth) - 1;
+        int maxY = Math.min(minY + clusterSize, gridHeight) - 1;
+
+        boolean found = local.findPath(startCell, goalCell, minX, minY, maxX, maxY, out);
+        expandedNodes += local.getExpandedNodes();
+        return found;
+    }
+
+    // === Cluster-Aufbau ===
+
+    private void rebuildDirtyClusters(ObstacleLayer layer) {
+        for (int i = 0; i < clustersX * clustersY; i++) {
+            if (dirty[i]) {
+                rebuildCluster(layer, i);
+                dirty[i] = false;
+                rebuiltClusters++;
+            }
+        }
+        dirtyCount = 0;
+    }
+
+    private void rebuildCluster(ObstacleLayer layer, int clusterIndex) {
+        Cluster cluster = clusters[clusterIndex];
+        cluster.nodes.clear();
+        cluster.exitFrom.clear();
+        cluster.exitTo.clear();
+
+        int minX = (clusterIndex % clustersX) * clusterSize;
+        int minY = (clusterIndex / clustersX) * clusterSize;
+        int maxX = Math.min(minX + clusterSize, gridWidth) - 1;
+        int maxY = Math.min(minY + clusterSize, gridHeight) - 1;
+
+        // Die vier Grenzen (jeweils eigene Randzelle -> Zelle im Nachbar-Cluster)
+        if (maxX + 1 < gridWidth) addEntrances(layer, cluster, maxX, minY, 1, 0, maxY - minY + 1, false);
+        if (minX > 0) addEntrances(layer, cluster, minX, minY, -1, 0, maxY - minY + 1, false);
+        if (maxY + 1 < gridHeight) addEntrances(layer, cluster, minX, maxY, 0, 1, maxX - minX + 1, true);
+        if (minY > 0) addEntrances(layer, cluster, minX, minY, 0, -1, maxX - minX + 1, true);
+
+        // Abstände zwischen allen Eingängen (eine Breitensuche pro Eingang)
+        int n = cluster.nodes.size;
+        if (cluster.distances.length < n * n) {
+            cluster.distances = new int[n * n];
+        }
+        for (int i = 0; i < n; i++) {
+            localBfs(layer, cluster.nodes.get(i), minX, minY, maxX, maxY);
+            for (int j = 0; j < n; j++) {
+                cluster.distances[i * n + j] = localDistance(cluster.nodes.get(j), minX, minY, maxX);
+            }
+        }
+    }
+
+    /**
+     * Sucht freie Abschnitte entlang einer Grenze. Beide Seiten der Grenze
+     * laufen in derselben Richtung, dadurch legen sie dieselben Eingänge an.
+     * @param dx, dy Richtung zum Nachbar-Cluster
+     */
+    private void addEntrances(ObstacleLayer layer, Cluster cluster, int x, int y,
+                              int dx, int dy, int length, boolean horizontal) {
+        int runStart = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean free = false;
+            if (i < length) {
+                int cx = horizontal ? x + i : x;
+                int cy = horizontal ? y : y + i;
+                free = !layer.isBlocked(cx, cy) && !layer.isBlocked(cx + dx, cy + dy);
+            }
+
+            if (free && runStart < 0) {
+                runStart = i;
+            } else if (!free && runStart >= 0) {
+                int runEnd = i - 1;
+                if (runEnd - runStart + 1 >= LONG_ENTRANCE) {
+                    addEntrance(cluster, x, y, dx, dy, runStart, horizontal);
+                    addEntrance(cluster, x, y, dx, dy, runEnd, horizontal);
+                } else {
+                    addEntrance(cluster, x, y, dx, dy, (runStart + runEnd) / 2, horizontal);
+                }
+                runStart = -1;
+            }
+        }
+    }
+
+    private void addEntrance(Cluster cluster, int x, int y, int dx, int dy, int offset, boolean horizontal) {
+        int cx = horizontal ? x + offset : x;
+        int cy = horizontal ? y : y + offset;
+        int cell = cy * gridWidth + cx;
+
+        int node = cluster.nodes.indexOf(cell);
+        if (node < 0) {
+            node = cluster.nodes.size;
+            cluster.nodes.add(cell);
+        }
+        cluster.exitFrom.add(node);
+        cluster.exitTo.add((cy + dy) * gridWidth + cx + dx);
+    }
+
+    /**
+     * Abstände von einer Zelle zu allen Eingängen des Clusters
+     */
+    private int[] distancesToNodes(ObstacleLayer layer, int cell, int clusterIndex, Cluster cluster, int[] out) {
+        if (out.length < cluster.nodes.size) {
+            out = new int[cluster.nodes.size];
+        }
+
+        int minX = (clusterIndex % clustersX) * clusterSize;
+        int minY = (clusterIndex / clustersX) * clusterSize;
+        int maxX = Math.min(minX + clusterSize, gridWidth) - 1;
+        int maxY = Math.min(minY + clusterSize, gridHeight) - 1;
+
+        localBfs(layer, cell, minX, minY, maxX, maxY);
+        for (int i = 0; i < cluster.nodes.size; i++) {
+            out[i] = localDistance(cluster.nodes.get(i), minX, minY, maxX);
+        }
+        return out;
+    }
+
+    /**
+     * Breitensuche innerhalb des Cluster-Rechtecks, Ergebnis in localDistance
+     */
+    private void localBfs(ObstacleLayer layer, int startCell, int minX, int minY, int maxX, int maxY) {
+        int width = maxX - minX + 1;
+        Arrays.fill(localDistance, UNREACHED);
+
+        int head = 0;
+        int tail = 0;
+        int startLocal = (startCell / gridWidth - minY) * width + (startCell % gridWidth - minX);
+        localDistance[startLocal] = 0;
+        localQueue[tail++] = startCell;
+
+        while (head < tail) {
+            int cell = localQueue[head++];
+            int x = cell % gridWidth;
+            int y = cell / gridWidth;
+            int nextDistance = localDistance[(y - minY) * width + (x - minX)] + 1;
+
+            int passable = layer.passableNeighbors(cell);
+            if (x < maxX && (passable & ObstacleLayer.RIGHT) != 0) tail = visitLocal(cell + 1, x + 1, y, nextDistance, minX, minY, width, tail);
+            if (x > minX && (passable & ObstacleLayer.LEFT) != 0) tail = visitLocal(cell - 1, x - 1, y, nextDistance, minX, minY, width, tail);
+            if (y < maxY && (passable & ObstacleLayer.UP) != 0) tail = visitLocal(cell + gridWidth, x, y + 1, nextDistance, minX, minY, width, tail);
+            if (y > minY && (passable & ObstacleLayer.DOWN) != 0) tail = visitLocal(cell - gridWidth, x, y - 1, nextDistance, minX, minY, width, tail);
+        }
+    }
+
+    private int visitLocal(int cell, int x, int y, int distance, int minX, int minY, int width, int tail) {
+        int index = (y - minY) * width + (x - minX);
+        if (localDistance[index] != UNREACHED) return tail;
+
+        localDistance[index] = distance;
+        localQueue[tail] = cell;
+        return tail + 1;
+    }
+
+    private int localDistance(int cell, int minX, int minY, int maxX) {
+        int width = maxX - minX + 1;
+        return localDistance[(cell / gridWidth - minY) * width + (cell % gridWidth - minX)];
+    }
+
+    /**
+     * Markiert alle Cluster, die den Bereich berühren, und ihre Nachbarn an der Grenze
+     */
+    @Override
+    public void obstaclesChanged(int minX, int minY, int maxX, int maxY) {
+        int fromX = Math.max(0, (minX - 1) / clusterSize);
+        int fromY = Math.max(0, (minY - 1) / clusterSize);
+        int toX = Math.min(clustersX - 1, (maxX + 1) / clusterSize);
+        int toY = Math.min(clustersY - 1, (maxY + 1) / clusterSize);
+
+        for (int cy = fromY; cy <= toY; cy++) {
+            for (int cx = fromX; cx <= toX; cx++) {
+                int index = cy * clustersX + cx;
+                if (!dirty[index]) {
+                    dirty[index] = true;
+                    dirtyCount++;
+                }
+            }
+        }
+    }
+
+    private void markAllDirty() {
+        int clusterCount = clustersX * clustersY;
+        Arrays.fill(dirty, 0, clusterCount, true);
+        dirtyCount = clusterCount;
+    }
+
+    private int clusterOf(int cell) {
+        int x = cell % gridWidth;
+        int y = cell / gridWidth;
+        return (y / clusterSize) * clustersX + x / clusterSize;
+    }
+
+    private ObstacleLayer layer() {
+        if (obstacles != null) return obstacles;
+
+        if (emptyLayer == null) {
+            emptyLayer = new ObstacleLayer(gridWidth, gridHeight);
+        }
+        return emptyLayer;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Überlauf: Stempel einmalig zurücksetzen
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Sortiert nach f, bei Gleichstand nach kleinerem h
+     */
+    private static long key(int f, int h) {
+        return ((long) f << 32) | h;
+    }
+
+    @Override
+    public int toCell(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    @Override
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+        local.setObstacleLayer(obstacles);
+        markAllDirty();
+    }
+
+    // Getter
+    @Override
+    public ObstacleLayer getObstacleLayer() {
+        return obstacles;
+    }
+
+    @Override
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    @Override
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    @Override
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+
+    public int getClusterSize() {
+        return clusterSize;
+    }
+
+    public int getClusterCount() {
+        return clustersX * clustersY;
+    }
+
+    /**
+     * Anzahl der seit dem Start neu berechneten Cluster
+     */
+    public int getRebuiltClusters() {
+        return rebuiltClusters;
+    }
+}
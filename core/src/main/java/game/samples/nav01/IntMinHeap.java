@@ -0,0 +1,169 @@
+package game.samples.nav01;
+
+import java.util.Arrays;
+
+/**
+ * Binärer Min-Heap über int-Knoten (z.B. Zell-Indizes) mit long-Schlüsseln.
+ * Kennt die Heap-Position jedes Knotens, dadurch sind decrease-key und
+ * contains in O(log n) bzw. O(1) möglich. Alle Arrays werden wiederverwendet.
+ */
+public class IntMinHeap {
+    private int[] nodes;     // Heap-Reihenfolge
+    private long[] keys;     // Schlüssel pro Knoten-Id
+    private int[] positions; // Heap-Position pro Knoten-Id (-1 = nicht enthalten)
+    private int size;
+
+    public IntMinHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    /**
+     * Stellt sicher, dass Knoten-Ids bis capacity - 1 aufgenommen werden können.
+     * Wächst nur, schrumpft nie.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= positions.length) return;
+
+        int oldLength = positions.length;
+        nodes = Arrays.copyOf(nodes, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        positions = Arrays.copyOf(positions, capacity);
+        Arrays.fill(positions, oldLength, capacity, -1);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[nodes[i]] = -1;
+        }
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean contains(int node) {
+        return positions[node] >= 0;
+    }
+
+    public long getKey(int node) {
+        return keys[node];
+    }
+
+    public void add(int node, long key) {
+        keys[node] = key;
+        nodes[size] = node;
+        positions[node] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Fügt den Knoten ein oder ändert seinen Schlüssel (in beide Richtungen)
+     */
+    public void addOrUpdate(int node, long key) {
+        int pos = positions[node];
+        if (pos < 0) {
+            add(node, key);
+            return;
+        }
+
+        long oldKey = keys[node];
+        keys[node] = key;
+        if (key < oldKey) {
+            siftUp(pos);
+        } else if (key > oldKey) {
+            siftDown(pos);
+        }
+    }
+
+    public int peek() {
+        return nodes[0];
+    }
+
+    public long peekKey() {
+        return keys[nodes[0]];
+    }
+
+    public int pop() {
+        int top = nodes[0];
+        removeAt(0);
+        return top;
+    }
+
+    public void remove(int node) {
+        int pos = positions[node];
+        if (pos >= 0) {
+            removeAt(pos);
+        }
+    }
+
+    private void removeAt(int pos) {
+        int removed = nodes[pos];
+        positions[removed] = -1;
+        size--;
+
+        if (pos == size) return;
+
+        int last = nodes[size];
+        nodes[pos] = last;
+        positions[last] = pos;
+
+        // Der nachgerückte Knoten kann in beide Richtungen wandern
+        if (pos > 0 && keys[last] < keys[nodes[(pos - 1) >>> 1]]) {
+            siftUp(pos);
+        } else {
+            siftDown(pos);
+        }
+    }
+
+    private void siftUp(int pos) {
+        int node = nodes[pos];
+        long key = keys[node];
+
+        while (pos > 0) {
+            int parentPos = (pos - 1) >>> 1;
+            int parent = nodes[parentPos];
+            if (keys[parent] <= key) break;
+
+            nodes[pos] = parent;
+            positions[parent] = pos;
+            pos = parentPos;
+        }
+
+        nodes[pos] = node;
+        positions[node] = pos;
+    }
+
+    private void siftDown(int pos) {
+        int node = nodes[pos];
+        long key = keys[node];
+        int half = size >>> 1;
+
+        while (pos < half) {
+            int childPos = 2 * pos + 1;
+            int child = nodes[childPos];
+            int rightPos = childPos + 1;
+
+            if (rightPos < size && keys[nodes[rightPos]] < keys[child]) {
+                childPos = rightPos;
+                child = nodes[rightPos];
+            }
+            if (key <= keys[child]) break;
+
+            nodes[pos] = child;
+            positions[child] = pos;
+            pos = childPos;
+        }
+
+        nodes[pos] = node;
+        positions[node] = pos;
+    }
+}
@@ -0,0 +1,277 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+/**
+ * Jump Point Search für das 4er-Nachbarschafts-Gitter (einheitliche Kosten).
+ *
+ * Statt jede Zelle in die Open-Liste zu legen, springt die Suche entlang
+ * gerader Linien bis zu einer Zelle mit erzwungenem Nachbarn, dem Ziel
+ * oder einer Wand. Waagerechte Sprünge prüfen je 64 Zellen auf einmal über
+ * die Bitmasken der ObstacleLayer; senkrechte Sprünge starten in jeder
+ * Zeile waagerechte Sprünge. Die Pfade sind genauso lang wie bei A*,
+ * werden aber mit deutlich weniger Heap-Operationen gefunden.
+ */
+public class JumpPointPathfinder implements GridPathfinder {
+    private int gridWidth;
+    private int gridHeight;
+
+    private int[] gScore;
+    private int[] parent;
+    private int[] openStamp;   // g/parent gültig wenn == generation
+    private int[] closedStamp; // abgeschlossen wenn == generation
+    private int generation;
+
+    private final IntMinHeap open;
+
+    // Ohne gesetzte Ebene wird eine leere verwendet
+    private ObstacleLayer obstacles;
+    private ObstacleLayer emptyLayer;
+
+    // Ziel der laufenden Anfrage (für die Sprünge)
+    private int goalX;
+    private int goalY;
+
+    // Statistik der letzten Anfrage
+    private int expandedNodes;
+
+    public JumpPointPathfinder(int gridWidth, int gridHeight) {
+        int cellCount = gridWidth * gridHeight;
+        this.gScore = new int[cellCount];
+        this.parent = new int[cellCount];
+        this.openStamp = new int[cellCount];
+        this.closedStamp = new int[cellCount];
+        this.open = new IntMinHeap(cellCount);
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+    }
+
+    @Override
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+
+        int cellCount = gridWidth * gridHeight;
+        if (cellCount > gScore.length) {
+            gScore = new int[cellCount];
+            parent = new int[cellCount];
+            openStamp = new int[cellCount];
+            closedStamp = new int[cellCount];
+            generation = 0;
+        }
+        open.ensureCapacity(cellCount);
+
+        if (emptyLayer != null) {
+            emptyLayer.resize(gridWidth, gridHeight);
+        }
+    }
+
+    @Override
+    public boolean findPath(int startCell, int goalCell, IntArray outPath) {
+        outPath.clear();
+        expandedNodes = 0;
+
+        if (startCell == goalCell) return true;
+
+        ObstacleLayer layer = layer();
+        if (layer.isBlocked(goalCell)) return false;
+
+        nextGeneration();
+        open.clear();
+
+        goalX = goalCell % gridWidth;
+        goalY = goalCell / gridWidth;
+
+        gScore[startCell] = 0;
+        parent[startCell] = -1;
+        openStamp[startCell] = generation;
+        open.add(startCell, 0);
+
+        while (!open.isEmpty()) {
+            int current = open.pop();
+
+            if (current == goalCell) {
+                buildPath(startCell, goalCell, outPath);
+                return true;
+            }
+
+            closedStamp[current] = generation;
+            expandedNodes++;
+
+            int x = current % gridWidth;
+            int y = current / gridWidth;
+
+            // Richtung, aus der der Knoten erreicht wurde
+            int dx = 0;
+            int dy = 0;
+            int from = parent[current];
+            if (from >= 0) {
+                dx = Integer.signum(x - from % gridWidth);
+                dy = Integer.signum(y - from / gridWidth);
+            }
+
+            // Waagerecht angekommen: weiter geradeaus und beide senkrechten Richtungen.
+            // Senkrecht angekommen: umgekehrt. Am Start alle vier Richtungen.
+            if (dy == 0) {
+                if (dx >= 0) addJump(current, jumpHorizontal(layer, x, y, 1));
+                if (dx <= 0) addJump(current, jumpHorizontal(layer, x, y, -1));
+                addJump(current, jumpVertical(layer, x, y, 1));
+                addJump(current, jumpVertical(layer, x, y, -1));
+            } else {
+                addJump(current, jumpVertical(layer, x, y, dy));
+                addJump(current, jumpHorizontal(layer, x, y, 1));
+                addJump(current, jumpHorizontal(layer, x, y, -1));
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Springt waagerecht ab (x, y), 64 Zellen pro Schritt.
+     * Halt an Zellen, deren oberer/unterer Nachbar frei ist, während der
+     * Nachbar der vorherigen Zelle blockiert ist (erzwungener Nachbar).
+     * @return Sprungpunkt oder -1 (Wand erreicht)
+     */
+    private int jumpHorizontal(ObstacleLayer layer, int x, int y, int dx) {
+        while (true) {
+            // Fenster der nächsten 64 Zellen in Laufrichtung
+            int base = dx > 0 ? x + 1 : x - 64;
+            int behind = base - dx;
+
+            long blocked = layer.getRowBits(base, y);
+            long forced = (~layer.getRowBits(base, y + 1) & layer.getRowBits(behind, y + 1))
+                | (~layer.getRowBits(base, y - 1) & layer.getRowBits(behind, y - 1));
+            if (goalY == y && goalX >= base && goalX < base + 64) {
+                forced |= 1L << (goalX - base);
+            }
+
+            // Abstand zum ersten Treffer in Laufrichtung
+            int stopBlocked = dx > 0 ? Long.numberOfTrailingZeros(blocked) : Long.numberOfLeadingZeros(blocked);
+            int stopForced = dx > 0 ? Long.numberOfTrailingZeros(forced) : Long.numberOfLeadingZeros(forced);
+
+            if (stopForced < stopBlocked) {
+                return y * gridWidth + x + dx * (stopForced + 1);
+            }
+            if (stopBlocked < 64) return -1;
+
+            x += dx * 64;
+        }
+    }
+
+    /**
+     * Springt senkrecht ab (x, y) und prüft in jeder Zeile beide waagerechten Richtungen
+     * @return Sprungpunkt oder -1 (Wand erreicht)
+     */
+    private int jumpVertical(ObstacleLayer layer, int x, int y, int dy) {
+        while (true) {
+            y += dy;
+            if (y < 0 || y >= gridHeight) return -1;
+
+            int cell = y * gridWidth + x;
+            if (layer.isBlocked(cell)) return -1;
+            if (x == goalX && y == goalY) return cell;
+
+            if (jumpHorizontal(layer, x, y, 1) >= 0 || jumpHorizontal(layer, x, y, -1) >= 0) {
+                return cell;
+            }
+        }
+    }
+
+    private void addJump(int from, int cell) {
+        if (cell < 0 || closedStamp[cell] == generation) return;
+
+        int x = cell % gridWidth;
+        int y = cell / gridWidth;
+        int g = gScore[from] + Math.abs(x - from % gridWidth) + Math.abs(y - from / gridWidth);
+
+        if (openStamp[cell] != generation || g < gScore[cell]) {
+            gScore[cell] = g;
+            parent[cell] = from;
+            int h = Math.abs(goalX - x) + Math.abs(goalY - y);
+
+            if (openStamp[cell] != generation) {
+                openStamp[cell] = generation;
+                open.add(cell, key(g + h, h));
+            } else {
+                open.addOrUpdate(cell, key(g + h, h));
+            }
+        }
+    }
+
+    /**
+     * Füllt die geraden Abschnitte zwischen den Sprungpunkten mit Zellen auf
+     */
+    private void buildPath(int startCell, int goalCell, IntArray outPath) {
+        for (int cell = goalCell; cell != startCell; cell = parent[cell]) {
+            int from = parent[cell];
+            int step = from / gridWidth == cell / gridWidth
+                ? Integer.signum(from - cell)
+                : Integer.signum(from - cell) * gridWidth;
+
+            for (int c = cell; c != from; c += step) {
+                outPath.add(c);
+            }
+        }
+        outPath.reverse();
+    }
+
+    private ObstacleLayer layer() {
+        if (obstacles != null) return obstacles;
+
+        if (emptyLayer == null) {
+            emptyLayer = new ObstacleLayer(gridWidth, gridHeight);
+        }
+        return emptyLayer;
+    }
+
+    private void nextGeneration() {
+        generation++;
+        if (generation == Integer.MAX_VALUE) {
+            // Überlauf: Stempel einmalig zurücksetzen
+            Arrays.fill(openStamp, 0);
+            Arrays.fill(closedStamp, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Sortiert nach f, bei Gleichstand nach kleinerem h (tiefere Knoten zuerst)
+     */
+    private static long key(int f, int h) {
+        return ((long) f << 32) | h;
+    }
+
+    @Override
+    public int toCell(int gridX, int gridY) {
+        return gridY * gridWidth + gridX;
+    }
+
+    @Override
+    public void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+    }
+
+    // Getter
+    @Override
+    public ObstacleLayer getObstacleLayer() {
+        return obstacles;
+    }
+
+    @Override
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    @Override
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    @Override
+    public int getExpandedNodes() {
+        return expandedNodes;
+    }
+}
@@ -9,14 +9,18 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.IntArray;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
-import com.badlogic.gdx.math.Vector2;
-import java.util.ArrayList;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.TriangleBatch;
 import java.util.List;
 
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
 
@@ -29,8 +33,18 @@ public class Main extends ApplicationAdapter {
     private static final float MAP_WIDTH = 3200f;
     private static final float MAP_HEIGHT = 2400f;
 
+    // Simulation (Gitter, Hindernisse, Pfadsuche, Einheiten) - hier nur Eingabe und Darstellung
+    private NavSimulation simulation;
     private DotGrid grid;
-    private List<GridUnit> units;
+    private DotGridRenderer gridRenderer;
+    private boolean bakedGridRendering = true;
+    private ObstacleLayer obstacles;
+
+    private static final String[] LOG_LEVEL_NAMES = { "AUS", "INFO", "DEBUG" };
+
+    // Hindernisse (Maus: links setzen, rechts entfernen)
+    private static final int OBSTACLE_BRUSH_RADIUS = 2;
+    private final Vector3 mouseWorld = new Vector3();
 
     private float currentSpacing;
     private float cameraSpeed = 300f;
@@ -42,6 +56,9 @@ public class Main extends ApplicationAdapter {
     private int frameCount = 0;
     private int fps = 0;
 
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     @Override
     public void create() {
         // WICHTIG: Setze kontinuierliches Rendering
@@ -49,6 +66,8 @@ public class Main extends ApplicationAdapter {
         Gdx.graphics.setVSync(true);
 
         shapeRenderer = new ShapeRenderer();
+
+        triangles = new TriangleBatch();
         shapeRenderer.setAutoShapeType(true);
 
         batch = new SpriteBatch();
@@ -64,8 +83,13 @@ public class Main extends ApplicationAdapter {
         uiViewport = new ScreenViewport(uiCamera);
 
         currentSpacing = 50f;
-        grid = new DotGrid(MAP_WIDTH, MAP_HEIGHT, currentSpacing);
-        units = new ArrayList<>();
+        int pathWorkers = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        simulation = new NavSimulation(MAP_WIDTH, MAP_HEIGHT, currentSpacing, pathWorkers,
+            Runtime.getRuntime().availableProcessors());
+        simulation.getEventLog().startConsumer(System.out);
+        grid = simulation.getGrid();
+        obstacles = simulation.getObstacles();
+        gridRenderer = new DotGridRenderer(grid);
 
         System.out.println("===========================================");
         System.out.println("Grid-System initialisiert!");
@@ -87,14 +111,22 @@ public class Main extends ApplicationAdapter {
             fpsTimer = 0;
         }
 
-        // UPDATE PHASE
+        // UPDATE PHASE (Kamera mit echter Frame-Zeit, Simulation in festen Schritten)
         handleInput(deltaTime);
-        updateUnits(deltaTime);
+        int steps = loop.advance(deltaTime);
+        // Das Pfad-Budget gilt pro Frame, auch wenn Schritte nachgeholt werden
+        float pathBudget = simulation.getPathBudgetMillis() / Math.max(steps, 1);
+        for (int i = 0; i < steps; i++) {
+            simulation.step(loop.getStep(), pathBudget);
+        }
 
         // RENDER PHASE
         Gdx.gl.glClearColor(0.2f, 0.2f, 0.2f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+        // Zwischen zwei Simulationsschritten interpolieren
+        float alpha = loop.getAlpha();
+
         // === WORLD RENDERING ===
         worldCamera.update();
         shapeRenderer.setProjectionMatrix(worldCamera.combined);
@@ -106,10 +138,37 @@ public class Main extends ApplicationAdapter {
         shapeRenderer.rect(0, 0, MAP_WIDTH, MAP_HEIGHT);
         shapeRenderer.end();
 
-        // Grid
-        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        grid.render(shapeRenderer);
-        shapeRenderer.end();
+        // Grid (statisches Mesh, nur sichtbarer Bereich)
+        if (bakedGridRendering) {
+            gridRenderer.render(worldCamera);
+        } else {
+            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            grid.render(shapeRenderer);
+            shapeRenderer.end();
+        }
+
+        // Hindernisse
+        if (obstacles.getBlockedCount() > 0) {
+            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            renderObstacles();
+            shapeRenderer.end();
+        }
+
+        // Wegpunkte
+        IntArray waypoints = simulation.getWaypoints();
+        if (waypoints != null) {
+            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+            Gdx.gl.glLineWidth(2);
+            shapeRenderer.setColor(Color.CYAN);
+            float radius = grid.getSpacing() * 0.6f;
+            for (int i = 0; i < waypoints.size; i++) {
+                int cell = waypoints.get(i);
+                shapeRenderer.circle(grid.gridToWorldX(cell % grid.getGridWidth()), grid.gridToWorldY(cell / grid.getGridWidth()), radius);
+            }
+            shapeRenderer.end();
+        }
+
+        List<GridUnit> units = simulation.getUnits();
 
         // Debug (Ziele und Pfade)
         if (showDebug && units.size() > 0) {
@@ -131,8 +190,9 @@ public class Main extends ApplicationAdapter {
         if (units.size() > 0) {
             shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
             for (GridUnit unit : units) {
-                unit.render(shapeRenderer);
+                unit.render(triangles, alpha);
             }
+            triangles.draw(shapeRenderer);
             shapeRenderer.end();
         }
 
@@ -169,26 +229,87 @@ public class Main extends ApplicationAdapter {
             worldCamera.position.x += cameraSpeed * deltaTime;
         }
 
-        // Einheit spawnen
+        // Einheit spawnen (mit Shift gleich 100)
         if (Gdx.input.isKeyJustPressed(Input.Keys.H)) {
-            spawnRandomUnit();
+            int count = Gdx.input.isKeyPressed(Input.Keys.SHIFT_LEFT) ? 100 : 1;
+            for (int i = 0; i < count; i++) {
+                simulation.spawnRandomUnit();
+            }
         }
 
         // Spacing ändern
         if (Gdx.input.isKeyJustPressed(Input.Keys.PLUS) || Gdx.input.isKeyJustPressed(Input.Keys.EQUALS)) {
-            currentSpacing += 10f;
-            if (currentSpacing > 100f) currentSpacing = 100f;
-            grid = new DotGrid(MAP_WIDTH, MAP_HEIGHT, currentSpacing);
-            units.clear();
-            System.out.println("Grid-Abstand: " + currentSpacing + " px");
+            changeSpacing(10f);
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.MINUS)) {
-            currentSpacing -= 10f;
-            if (currentSpacing < 20f) currentSpacing = 20f;
-            grid = new DotGrid(MAP_WIDTH, MAP_HEIGHT, currentSpacing);
-            units.clear();
-            System.out.println("Grid-Abstand: " + currentSpacing + " px");
+            changeSpacing(-10f);
+        }
+
+        // Flow-Field Modus umschalten
+        if (Gdx.input.isKeyJustPressed(Input.Keys.M)) {
+            simulation.setFlowFieldMode(!simulation.isFlowFieldMode());
+            if (simulation.isFlowFieldMode()) {
+                printFlowFieldGoal();
+            }
+            System.out.println("Flow-Field Modus: " + (simulation.isFlowFieldMode() ? "AN" : "AUS"));
+        }
+
+        // Neues gemeinsames Ziel
+        if (Gdx.input.isKeyJustPressed(Input.Keys.G) && simulation.isFlowFieldMode()) {
+            simulation.selectFlowFieldGoal();
+            printFlowFieldGoal();
+        }
+
+        // Zell-Reservierungen umschalten
+        if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
+            simulation.setReservations(!simulation.isReservations());
+            System.out.println("Reservierungen: " + (simulation.isReservations() ? "AN" : "AUS"));
+        }
+
+        // PathService umschalten (Worker-Threads / sofort im Spiel-Thread)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.P)) {
+            simulation.setPathServiceEnabled(!simulation.isPathServiceEnabled());
+            System.out.println("PathService: " + (simulation.isPathServiceEnabled() ? "AN" : "AUS"));
+        }
+
+        // Log-Level der Einheiten (AUS / INFO / DEBUG)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.L)) {
+            UnitEventLog eventLog = simulation.getEventLog();
+            eventLog.setLevel((eventLog.getLevel() + 1) % LOG_LEVEL_NAMES.length);
+            System.out.println("Einheiten-Log: " + LOG_LEVEL_NAMES[eventLog.getLevel()]);
+        }
+
+        // Einheiten parallel aktualisieren (Entscheiden und Bewegen auf allen Kernen)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.U)) {
+            UnitUpdater unitUpdater = simulation.getUnitUpdater();
+            unitUpdater.setParallel(!unitUpdater.isParallel());
+            System.out.println("Paralleles Update: " + (unitUpdater.isParallel() ? "AN" : "AUS"));
+        }
+
+        // Pfad-Cache für neue Einheiten umschalten
+        if (Gdx.input.isKeyJustPressed(Input.Keys.K)) {
+            simulation.setPathCacheEnabled(!simulation.isPathCacheEnabled());
+            System.out.println("Pfad-Cache für neue Einheiten: " + (simulation.isPathCacheEnabled() ? "AN" : "AUS"));
+        }
+
+        // Wegpunkt-Modus umschalten
+        if (Gdx.input.isKeyJustPressed(Input.Keys.V)) {
+            simulation.setWaypointMode(simulation.getWaypoints() == null);
+            System.out.println("Wegpunkte: " + (simulation.getWaypoints() != null ? "AN" : "AUS"));
+        }
+
+        // Pfadsuche für neue Einheiten umschalten (A* / JPS / HPA* / D* Lite)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.J)) {
+            int mode = (simulation.getPathfinderMode() + 1) % NavSimulation.PATHFINDER_NAMES.length;
+            simulation.setPathfinderMode(mode);
+            System.out.println("Pfadsuche für neue Einheiten: " + NavSimulation.PATHFINDER_NAMES[mode]);
+        }
+
+        // Grid-Rendering umschalten (Mesh / ShapeRenderer)
+        if (Gdx.input.isKeyJustPressed(Input.Keys.B)) {
+            bakedGridRendering = !bakedGridRendering;
+            System.out.println("Grid-Mesh: " + (bakedGridRendering ? "AN" : "AUS"));
         }
 
         // Debug Toggle
@@ -199,8 +320,32 @@ public class Main extends ApplicationAdapter {
 
         // Alle Einheiten löschen
         if (Gdx.input.isKeyJustPressed(Input.Keys.C)) {
-            System.out.println("Alle " + units.size() + " Einheiten gelöscht");
-            units.clear();
+            System.out.println("Alle " + simulation.getUnits().size() + " Einheiten gelöscht");
+            simulation.clearUnits();
+        }
+
+        // Hindernisse malen (links) / radieren (rechts)
+        boolean paint = Gdx.input.isButtonPressed(Input.Buttons.LEFT);
+        boolean erase = Gdx.input.isButtonPressed(Input.Buttons.RIGHT);
+        if (paint || erase) {
+            mouseWorld.set(Gdx.input.getX(), Gdx.input.getY(), 0);
+            worldCamera.unproject(mouseWorld);
+            int gridX = grid.worldToGridX(mouseWorld.x);
+            int gridY = grid.worldToGridY(mouseWorld.y);
+            obstacles.stampCircle(gridX, gridY, OBSTACLE_BRUSH_RADIUS, paint);
+        }
+
+        // Zufälliger Hindernis-Block
+        if (Gdx.input.isKeyJustPressed(Input.Keys.O)) {
+            int minX = MathUtils.random(0, grid.getGridWidth() - 1);
+            int minY = MathUtils.random(0, grid.getGridHeight() - 1);
+            obstacles.stampRect(minX, minY, minX + MathUtils.random(2, 8), minY + MathUtils.random(2, 8), true);
+        }
+
+        // Alle Hindernisse entfernen
+        if (Gdx.input.isKeyJustPressed(Input.Keys.X)) {
+            obstacles.clear();
+            System.out.println("Hindernisse entfernt");
         }
 
         // Kamera in Grenzen halten
@@ -211,70 +356,147 @@ public class Main extends ApplicationAdapter {
         worldCamera.position.y = Math.max(halfHeight, Math.min(MAP_HEIGHT - halfHeight, worldCamera.position.y));
     }
 
-    private void spawnRandomUnit() {
-        Vector2 randomGridPos = grid.getRandomGridCoordinate();
-        GridUnit unit = new GridUnit(
-            randomGridPos.x,
-            randomGridPos.y,
-            currentSpacing,
-            MAP_WIDTH,
-            MAP_HEIGHT
-        );
-        units.add(unit);
-
-        System.out.println("===========================================");
-        System.out.println("Einheit #" + units.size() + " gespawnt bei Grid (" +
-            (int)randomGridPos.x + ", " + (int)randomGridPos.y + ")");
-        System.out.println("World Position: (" + unit.getPosition().x + ", " + unit.getPosition().y + ")");
-        System.out.println("===========================================");
+    /**
+     * Ändert den Grid-Abstand (entfernt alle Einheiten)
+     */
+    private void changeSpacing(float delta) {
+        currentSpacing = MathUtils.clamp(currentSpacing + delta, 20f, 100f);
+        simulation.setSpacing(currentSpacing);
+        System.out.println("Grid-Abstand: " + currentSpacing + " px");
     }
 
-    private void updateUnits(float deltaTime) {
-        if (units.isEmpty()) return;
+    private void printFlowFieldGoal() {
+        FlowField flowField = simulation.getActiveFlowField();
+        int goalCell = flowField.getGoalCell();
+        System.out.println("Sammelziel: Grid (" + grid.cellX(goalCell) + ", " + grid.cellY(goalCell) + ")" +
+            (flowField.isComplete() ? " (aus Cache)" : ""));
+    }
 
-        for (GridUnit unit : units) {
-            unit.update(deltaTime);
+    /**
+     * Zeichnet blockierte Zellen im sichtbaren Bereich als Quadrate
+     */
+    private void renderObstacles() {
+        float spacing = grid.getSpacing();
+        float halfWidth = worldCamera.viewportWidth * worldCamera.zoom / 2f;
+        float halfHeight = worldCamera.viewportHeight * worldCamera.zoom / 2f;
+
+        int minX = Math.max(0, grid.worldToGridX(worldCamera.position.x - halfWidth) - 1);
+        int maxX = Math.min(grid.getGridWidth() - 1, grid.worldToGridX(worldCamera.position.x + halfWidth) + 1);
+        int minY = Math.max(0, grid.worldToGridY(worldCamera.position.y - halfHeight) - 1);
+        int maxY = Math.min(grid.getGridHeight() - 1, grid.worldToGridY(worldCamera.position.y + halfHeight) + 1);
+
+        shapeRenderer.setColor(0.45f, 0.25f, 0.2f, 1);
+        for (int y = minY; y <= maxY; y++) {
+            for (int x = minX; x <= maxX; x++) {
+                if (obstacles.isBlocked(x, y)) {
+                    shapeRenderer.rect(grid.gridToWorldX(x) - spacing / 2f, grid.gridToWorldY(y) - spacing / 2f, spacing, spacing);
+                }
+            }
         }
     }
 
     private void renderUI() {
+        List<GridUnit> units = simulation.getUnits();
+        PathService pathService = simulation.getPathService();
+        UnitUpdater unitUpdater = simulation.getUnitUpdater();
+        UnitEventLog eventLog = simulation.getEventLog();
+        HierarchicalPathfinder hierarchicalPathfinder = simulation.getHierarchicalPathfinder();
+
         batch.begin();
 
+        // Zeilen von oben nach unten
+        float y = uiViewport.getScreenHeight() - 10;
+
         font.setColor(Color.WHITE);
-        font.draw(batch, "Grid-basierte Einheiten", 10, uiViewport.getScreenHeight() - 10);
-        font.draw(batch, "WASD = Kamera", 10, uiViewport.getScreenHeight() - 35);
-        font.draw(batch, "H = Einheit spawnen", 10, uiViewport.getScreenHeight() - 60);
-        font.draw(batch, "C = Alle löschen", 10, uiViewport.getScreenHeight() - 85);
-        font.draw(batch, "F = Debug Toggle", 10, uiViewport.getScreenHeight() - 110);
-        font.draw(batch, "+/- = Grid-Abstand", 10, uiViewport.getScreenHeight() - 135);
+        y = drawLine("Grid-basierte Einheiten", y);
+        y = drawLine("WASD = Kamera", y);
+        y = drawLine("H = Einheit spawnen (Shift+H = 100)", y);
+        y = drawLine("C = Alle löschen, F = Debug Toggle, +/- = Grid-Abstand", y);
+        y = drawLine("M = Flow-Field Modus, G = Neues Sammelziel", y);
+        y = drawLine("B = Grid-Mesh Toggle, R = Reservierungen, P = PathService, U = Paralleles Update, L = Log-Level", y);
+        y = drawLine("J = Pfadsuche neuer Einheiten (A* / JPS / HPA* / D* Lite), K = Pfad-Cache", y);
+        y = drawLine("V = Wegpunkte (Einheiten pendeln zwischen " + NavSimulation.WAYPOINT_COUNT + " Zielen)", y);
+        y = drawLine("Maus L/R = Hindernis malen/radieren, O = Block, X = Hindernisse löschen", y);
+        y -= 15;
 
         font.setColor(Color.YELLOW);
-        font.draw(batch, "Grid-Abstand: " + (int)currentSpacing + " px", 10, uiViewport.getScreenHeight() - 175);
-        font.draw(batch, "Grid-Punkte: " + grid.getPointCount(), 10, uiViewport.getScreenHeight() - 200);
-        font.draw(batch, "Grid-Größe: " + grid.getGridWidth() + " x " + grid.getGridHeight(),
-            10, uiViewport.getScreenHeight() - 225);
-        font.draw(batch, "Einheiten: " + units.size(), 10, uiViewport.getScreenHeight() - 250);
+        y = drawLine("Grid-Abstand: " + (int)currentSpacing + " px", y);
+        y = drawLine("Grid: " + grid.getGridWidth() + " x " + grid.getGridHeight() + " (" + grid.getPointCount() + " Punkte)", y);
+        y = drawLine("Grid-Mesh: " + (bakedGridRendering ? "AN (" + gridRenderer.getVisibleDots() + " sichtbar)" : "AUS"), y);
+        y = drawLine("Einheiten: " + units.size(), y);
+        y = drawLine("Hindernisse: " + obstacles.getBlockedCount() + " Zellen", y);
+        y -= 15;
 
         font.setColor(Color.CYAN);
         int rotating = 0;
         int moving = 0;
+        int blocked = 0;
+        int jumpPointUnits = 0;
+        int hierarchicalUnits = 0;
+        int incrementalUnits = 0;
+        int waitingForPath = 0;
         for (GridUnit unit : units) {
+            if (unit.isWaitingForPath()) waitingForPath++;
+            if (unit.getPathfinder() instanceof DStarLitePathfinder) incrementalUnits++;
+            GridPathfinder unitPathfinder = unit.getPathfinder();
+            if (unitPathfinder instanceof CachingPathfinder) {
+                unitPathfinder = ((CachingPathfinder) unitPathfinder).getPathfinder();
+            }
+            if (unitPathfinder == simulation.getJumpPointPathfinder()) jumpPointUnits++;
+            if (unitPathfinder == hierarchicalPathfinder) hierarchicalUnits++;
             if (unit.isRotating()) rotating++;
             if (unit.isMoving()) moving++;
+            if (unit.isBlocked()) blocked++;
+        }
+        y = drawLine("Rotierend: " + rotating + ", Bewegend: " + moving, y);
+        y = drawLine("Reservierungen: " + (simulation.isReservations() ? "AN (" + blocked + " warten)" : "AUS"), y);
+        y = drawLine("Pfadsuche: " + NavSimulation.PATHFINDER_NAMES[simulation.getPathfinderMode()] +
+            " (A* " + (units.size() - jumpPointUnits - hierarchicalUnits - incrementalUnits) +
+            ", JPS " + jumpPointUnits + ", HPA* " + hierarchicalUnits + ", D* " + incrementalUnits + "/" + NavSimulation.MAX_INCREMENTAL_UNITS + ")", y);
+        y = drawLine("PathService: " + (simulation.isPathServiceEnabled() ? "AN (" + pathService.getWorkerCount() + " Worker, " +
+            pathService.getQueuedCount() + " offen, " + waitingForPath + " warten, " +
+            pathService.getSolvedLastFrame() + " gelöst in " + String.format("%.2f", pathService.getLastUpdateMillis()) + " ms)" : "AUS"), y);
+        y = drawLine("Update: " + (unitUpdater.isParallel() ? "parallel (" + unitUpdater.getThreadCount() + " Threads)" : "seriell") +
+            String.format(" - Entscheiden %.2f ms, Übernehmen %.2f ms, Bewegen %.2f ms",
+                unitUpdater.getDecideMillis(), unitUpdater.getCommitMillis(), unitUpdater.getMoveMillis()), y);
+        y = drawLine("Einheiten-Log: " + LOG_LEVEL_NAMES[eventLog.getLevel()] + " (" + eventLog.getWritten() +
+            " Ereignisse, " + eventLog.getDropped() + " verworfen)", y);
+        y = drawLine("HPA*: " + hierarchicalPathfinder.getClusterCount() + " Cluster, " +
+            hierarchicalPathfinder.getRebuiltClusters() + " neu berechnet", y);
+        y = drawLine("Pfad-Cache: " + (simulation.isPathCacheEnabled() ? "AN" : "AUS"), y);
+        // Ein Cache pro Pfadsuche, damit z.B. A* keine HPA*-Pfade bekommt
+        for (int mode = 0; mode < simulation.getPathCacheCount(); mode++) {
+            PathCache pathCache = simulation.getPathCache(mode);
+            y = drawLine("  " + NavSimulation.PATHFINDER_NAMES[mode] + ": " + pathCache.size() + " Pfade, " +
+                pathCache.getUsedBytes() / 1024 + "/" + pathCache.getMaxBytes() / 1024 + " KB, Treffer " +
+                pathCache.getHits() + " + " + pathCache.getSuffixHits() + " Suffix, Fehlschläge " + pathCache.getMisses() +
+                ", verdrängt " + pathCache.getEvictions() + ", ungültig " + pathCache.getInvalidations(), y);
         }
-        font.draw(batch, "Rotierend: " + rotating, 10, uiViewport.getScreenHeight() - 290);
-        font.draw(batch, "Bewegend: " + moving, 10, uiViewport.getScreenHeight() - 315);
-        font.draw(batch, "Debug: " + (showDebug ? "AN" : "AUS"), 10, uiViewport.getScreenHeight() - 340);
+        y = drawLine("Debug: " + (showDebug ? "AN" : "AUS"), y);
+        if (simulation.isFlowFieldMode()) {
+            FlowFieldCache flowFieldCache = simulation.getFlowFieldCache();
+            y = drawLine("Flow-Field: " + (simulation.getActiveFlowField().isComplete() ? "fertig" : "berechne...") +
+                " (Cache " + flowFieldCache.size() + ", Treffer " + flowFieldCache.getHits() + ")", y);
+        } else {
+            y = drawLine("Flow-Field: AUS", y);
+        }
+        y -= 15;
 
         // FPS Anzeige
         font.setColor(Color.GREEN);
-        font.draw(batch, "FPS: " + fps, 10, uiViewport.getScreenHeight() - 380);
-        font.draw(batch, "DeltaTime: " + String.format("%.3f", Gdx.graphics.getDeltaTime()),
-            10, uiViewport.getScreenHeight() - 405);
+        y = drawLine("FPS: " + fps, y);
+        y = drawLine("DeltaTime: " + String.format("%.3f", Gdx.graphics.getDeltaTime()), y);
+        drawLine("Simulationsschritte: " + loop.getLastSteps() + " pro Frame (max " + loop.getMaxStepsPerFrame() +
+            "), verworfen: " + String.format("%.2f", loop.getDroppedTime()) + " s", y);
 
         batch.end();
     }
 
+    private float drawLine(String text, float y) {
+        font.draw(batch, text, 10, y);
+        return y - 25;
+    }
+
     @Override
     public void resize(int width, int height) {
         System.out.println("Window resized: " + width + "x" + height);
@@ -298,5 +520,7 @@ public class Main extends ApplicationAdapter {
         shapeRenderer.dispose();
         batch.dispose();
         font.dispose();
+        gridRenderer.dispose();
+        simulation.dispose();
     }
 }
@@ -0,0 +1,483 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Die nav01-Simulation ohne Fenster: Gitter, Hindernisse, Pathfinder,
+ * Einheiten und ein step() pro Frame. Main liest Eingaben und zeichnet,
+ * NavSimulationBenchmark ruft step() mit festem Zeitschritt auf.
+ *
+ * Braucht kein Gdx.* - nur MathUtils.random (Spawn-Positionen, Farben),
+ * für reproduzierbare Läufe also vorher MathUtils.random.setSeed() setzen.
+ */
+public class NavSimulation {
+    // Pfadsuche für neue Einheiten (Index in pathfinders)
+    // D* Lite hat Zustand pro Einheit und wird bei jedem Spawn neu erzeugt
+    public static final String[] PATHFINDER_NAMES = { "A*", "JPS", "HPA*", "D* Lite" };
+    private static final int INCREMENTAL_MODE = 3;
+    // D* Lite hält Zustand über das ganze Gitter (ca. 28 B pro Zelle, ~550 KB bei 161 x 121)
+    // und hört auf jede Hindernisänderung. Darüber bekommen neue Einheiten den geteilten A*.
+    public static final int MAX_INCREMENTAL_UNITS = 64;
+
+    // Flow-Field Modus: alle Einheiten laufen zu einem gemeinsamen Ziel
+    private static final int FLOW_FIELD_CELLS_PER_FRAME = 4000;
+    private static final int FLOW_FIELD_CACHE_SIZE = 8;
+
+    // Zell-Reservierungen gegen Kollisionen (Raum-Zeit, 0.1s pro Tick)
+    private static final int RESERVATION_WINDOW = 32;
+    private static final float RESERVATION_TICK = 0.1f;
+
+    // Pfad-Caches (je einer für A*, JPS und HPA*), zusammen höchstens 2 MB.
+    // Getrennt, weil HPA*-Pfade oft länger sind und A*/JPS kürzeste Wege liefern sollen.
+    private static final long PATH_CACHE_BYTES = 2 * 1024 * 1024;
+
+    // Wegpunkt-Modus: Einheiten pendeln zwischen wenigen festen Zellen
+    public static final int WAYPOINT_COUNT = 6;
+
+    private static final int EVENT_LOG_CAPACITY = 1 << 16;
+
+    private final DotGrid grid;
+    private final ObstacleLayer obstacles;
+    private int obstacleVersion;
+
+    private final AStarPathfinder pathfinder;
+    private final JumpPointPathfinder jumpPointPathfinder;
+    private final HierarchicalPathfinder hierarchicalPathfinder;
+    private final GridPathfinder[] pathfinders;
+    private final GridPathfinder[] cachingPathfinders;
+    private final PathCache[] pathCaches; // Index wie pathfinders
+    private int pathfinderMode;
+    private boolean usePathCache = true;
+
+    private final List<GridUnit> units;
+    private final UnitStore unitStore; // Bewegungszustand aller Einheiten (SoA)
+    private final UnitUpdater unitUpdater; // Entscheiden/Bewegen optional parallel (ForkJoin)
+    private final UnitEventLog eventLog;
+    private int nextUnitId;
+    private int incrementalUnits; // Einheiten mit eigenem D* Lite Planer
+
+    private final FlowFieldCache flowFieldCache;
+    private FlowField activeFlowField;
+    private boolean flowFieldMode;
+
+    private final ReservationTable reservations;
+    private boolean useReservations = true;
+
+    // Pfadanfragen gebündelt auf Worker-Threads, standardmäßig höchstens 2 ms pro Frame
+    private final PathService pathService;
+    private boolean usePathService = true;
+    private float pathBudgetMillis = 2f;
+
+    private IntArray waypoints;
+
+    /**
+     * @param pathWorkers Worker-Threads des PathService (0 = im aufrufenden Thread)
+     * @param updateThreads Threads für das parallele Update der Einheiten
+     */
+    public NavSimulation(float mapWidth, float mapHeight, float spacing, int pathWorkers, int updateThreads) {
+        grid = new DotGrid(mapWidth, mapHeight, spacing);
+        int gridWidth = grid.getGridWidth();
+        int gridHeight = grid.getGridHeight();
+
+        pathfinder = new AStarPathfinder(gridWidth, gridHeight);
+        jumpPointPathfinder = new JumpPointPathfinder(gridWidth, gridHeight);
+        hierarchicalPathfinder = new HierarchicalPathfinder(gridWidth, gridHeight);
+        pathfinders = new GridPathfinder[] { pathfinder, jumpPointPathfinder, hierarchicalPathfinder };
+        pathCaches = new PathCache[pathfinders.length];
+        cachingPathfinders = new GridPathfinder[pathfinders.length];
+        for (int i = 0; i < pathfinders.length; i++) {
+            pathCaches[i] = new PathCache(gridWidth, PATH_CACHE_BYTES / pathfinders.length);
+            cachingPathfinders[i] = new CachingPathfinder(pathfinders[i], pathCaches[i]);
+        }
+        flowFieldCache = new FlowFieldCache(gridWidth, gridHeight, FLOW_FIELD_CACHE_SIZE);
+        reservations = new ReservationTable(grid.getPointCount(), RESERVATION_WINDOW, RESERVATION_TICK);
+        units = new ArrayList<>();
+        unitStore = new UnitStore(gridWidth, spacing);
+        eventLog = new UnitEventLog(EVENT_LOG_CAPACITY, gridWidth);
+
+        obstacles = new ObstacleLayer(gridWidth, gridHeight);
+        pathfinder.setObstacleLayer(obstacles);
+        jumpPointPathfinder.setObstacleLayer(obstacles);
+        hierarchicalPathfinder.setObstacleLayer(obstacles);
+        obstacles.addListener(hierarchicalPathfinder);
+        for (PathCache pathCache : pathCaches) {
+            pathCache.setObstacleLayer(obstacles);
+            obstacles.addListener(pathCache);
+        }
+
+        pathService = new PathService(pathWorkers, new PathService.PathfinderFactory() {
+            @Override
+            public GridPathfinder createWorkerCopy(GridPathfinder template) {
+                return createWorkerPathfinder(template);
+            }
+
+            @Override
+            public void releaseWorkerCopy(GridPathfinder copy) {
+                releaseWorkerPathfinder(copy);
+            }
+        });
+        unitUpdater = new UnitUpdater(updateThreads);
+        flowFieldCache.setObstacleLayer(obstacles);
+        obstacles.addListener(flowFieldCache);
+        obstacleVersion = obstacles.getVersion();
+    }
+
+    /**
+     * Ein Simulationsschritt mit dem ganzen Pfad-Budget
+     */
+    public void step(float deltaTime) {
+        step(deltaTime, pathBudgetMillis);
+    }
+
+    /**
+     * Ein Simulationsschritt; bei mehreren Schritten pro Frame das Pfad-Budget
+     * aufteilen (getPathBudgetMillis() gilt pro Frame)
+     */
+    public void step(float deltaTime, float pathBudgetMillis) {
+        // Flow-Fields wurden vom Cache verworfen - Sammelziel neu anfordern
+        if (obstacles.getVersion() != obstacleVersion) {
+            obstacleVersion = obstacles.getVersion();
+            if (activeFlowField != null) {
+                activeFlowField = flowFieldCache.get(activeFlowField.getGoalCell());
+                for (GridUnit unit : units) {
+                    unit.setFlowField(activeFlowField);
+                }
+            }
+        }
+
+        // Flow-Field schrittweise weiterrechnen
+        if (activeFlowField != null) {
+            activeFlowField.advance(FLOW_FIELD_CELLS_PER_FRAME);
+        }
+
+        if (units.isEmpty()) return;
+
+        reservations.advance(deltaTime);
+
+        // Offene Pfadanfragen lösen, Ergebnisse holen die Einheiten selbst ab
+        pathService.update(pathBudgetMillis);
+
+        // Entscheiden, Übernehmen (seriell), Drehen und Laufen
+        unitStore.storePreviousState();
+        unitUpdater.update(units, unitStore, deltaTime);
+    }
+
+    public GridUnit spawnRandomUnit() {
+        int cell = getRandomFreeCell();
+        GridUnit unit = new GridUnit(
+            nextUnitId++,
+            unitStore,
+            grid.cellX(cell),
+            grid.cellY(cell),
+            grid.getMapWidth(),
+            grid.getMapHeight(),
+            createPathfinder()
+        );
+        if (flowFieldMode) {
+            unit.setFlowField(activeFlowField);
+        }
+        if (useReservations) {
+            unit.setReservationTable(reservations);
+        }
+        if (usePathService) {
+            unit.setPathService(pathService);
+        }
+        unit.setWaypoints(waypoints);
+        unit.setEventLog(eventLog);
+        units.add(unit);
+
+        eventLog.add(UnitEventLog.SPAWNED, unit.getId(), cell);
+        return unit;
+    }
+
+    /**
+     * Entfernt alle Einheiten und meldet ihre eigenen Planer von den Hindernissen ab
+     */
+    public void clearUnits() {
+        for (GridUnit unit : units) {
+            if (unit.getPathfinder() instanceof DStarLitePathfinder) {
+                obstacles.removeListener((DStarLitePathfinder) unit.getPathfinder());
+            }
+        }
+        units.clear();
+        incrementalUnits = 0;
+        unitStore.clear(grid.getGridWidth(), grid.getSpacing());
+        eventLog.setGridWidth(grid.getGridWidth());
+        pathService.clear();
+        reservations.clear();
+    }
+
+    /**
+     * Ändert den Grid-Abstand. Gitter und Pathfinder werden angepasst statt
+     * neu erzeugt; ihre Arrays wachsen nur und bleiben beim Verkleinern erhalten.
+     * Alle Einheiten werden entfernt.
+     */
+    public void setSpacing(float spacing) {
+        grid.setSpacing(spacing);
+        pathfinder.resize(grid.getGridWidth(), grid.getGridHeight());
+        jumpPointPathfinder.resize(grid.getGridWidth(), grid.getGridHeight());
+        hierarchicalPathfinder.resize(grid.getGridWidth(), grid.getGridHeight());
+        pathService.resize(grid.getGridWidth(), grid.getGridHeight());
+        for (PathCache pathCache : pathCaches) {
+            pathCache.resize(grid.getGridWidth());
+        }
+        waypoints = null;
+        flowFieldCache.resize(grid.getGridWidth(), grid.getGridHeight());
+        reservations.resize(grid.getPointCount());
+        obstacles.resize(grid.getGridWidth(), grid.getGridHeight());
+        obstacleVersion = obstacles.getVersion();
+        activeFlowField = null;
+        flowFieldMode = false;
+        clearUnits();
+    }
+
+    /**
+     * Flow-Field Modus an (mit neuem Sammelziel) oder aus
+     */
+    public void setFlowFieldMode(boolean enabled) {
+        flowFieldMode = enabled;
+        if (enabled) {
+            selectFlowFieldGoal();
+        } else {
+            activeFlowField = null;
+            for (GridUnit unit : units) {
+                unit.setFlowField(null);
+            }
+        }
+    }
+
+    /**
+     * Wählt ein zufälliges gemeinsames Ziel und verteilt dessen Flow-Field
+     * @return Ziel-Zelle
+     */
+    public int selectFlowFieldGoal() {
+        int goalCell = getRandomFreeCell();
+
+        activeFlowField = flowFieldCache.get(goalCell);
+        for (GridUnit unit : units) {
+            unit.setFlowField(activeFlowField);
+        }
+        return goalCell;
+    }
+
+    public void setReservations(boolean enabled) {
+        useReservations = enabled;
+        reservations.clear();
+        for (GridUnit unit : units) {
+            unit.setReservationTable(enabled ? reservations : null);
+        }
+    }
+
+    public void setPathServiceEnabled(boolean enabled) {
+        usePathService = enabled;
+        for (GridUnit unit : units) {
+            unit.setPathService(enabled ? pathService : null);
+        }
+    }
+
+    /**
+     * Wegpunkt-Modus an (neue zufällige Wegpunkte) oder aus
+     */
+    public void setWaypointMode(boolean enabled) {
+        if (enabled) {
+            waypoints = new IntArray();
+            for (int i = 0; i < WAYPOINT_COUNT; i++) {
+                waypoints.add(getRandomFreeCell());
+            }
+        } else {
+            waypoints = null;
+        }
+        for (GridUnit unit : units) {
+            unit.setWaypoints(waypoints);
+        }
+    }
+
+    /**
+     * Pfadsuche für neue Einheiten (Index in PATHFINDER_NAMES)
+     */
+    public void setPathfinderMode(int mode) {
+        pathfinderMode = mode;
+    }
+
+    /**
+     * Pfad-Cache für neue Einheiten
+     */
+    public void setPathCacheEnabled(boolean enabled) {
+        usePathCache = enabled;
+    }
+
+    /**
+     * Zeitbudget des PathService pro Frame
+     */
+    public void setPathBudgetMillis(float pathBudgetMillis) {
+        this.pathBudgetMillis = pathBudgetMillis;
+    }
+
+    /**
+     * Zufällige Zelle ohne Hindernis (nach einigen Fehlversuchen auch eine blockierte)
+     */
+    public int getRandomFreeCell() {
+        int cell = grid.getRandomCell();
+        for (int attempt = 0; attempt < 100 && obstacles.isBlocked(cell); attempt++) {
+            cell = grid.getRandomCell();
+        }
+        return cell;
+    }
+
+    /**
+     * Pfadsuche für eine neue Einheit: geteilt, oder ein eigener D* Lite Planer
+     * (höchstens MAX_INCREMENTAL_UNITS, danach geteilter A*)
+     */
+    private GridPathfinder createPathfinder() {
+        int mode = pathfinderMode;
+        if (mode == INCREMENTAL_MODE && incrementalUnits >= MAX_INCREMENTAL_UNITS) {
+            mode = 0;
+        }
+        if (mode != INCREMENTAL_MODE) {
+            return usePathCache ? cachingPathfinders[mode] : pathfinders[mode];
+        }
+
+        incrementalUnits++;
+        DStarLitePathfinder planner = new DStarLitePathfinder(grid.getGridWidth(), grid.getGridHeight());
+        planner.setObstacleLayer(obstacles);
+        obstacles.addListener(planner);
+        return planner;
+    }
+
+    /**
+     * Eigene Pathfinder-Kopie für einen PathService-Worker (geteilte Arrays wären nicht threadsicher).
+     * Wird im Spiel-Thread aufgerufen, die Listener-Liste der Hindernisse ist nicht synchronisiert.
+     */
+    private GridPathfinder createWorkerPathfinder(GridPathfinder template) {
+        GridPathfinder copy;
+        if (template instanceof CachingPathfinder) {
+            // Eigener Pathfinder, aber derselbe (synchronisierte) Cache wie die Vorlage
+            CachingPathfinder caching = (CachingPathfinder) template;
+            GridPathfinder inner = createWorkerPathfinder(caching.getPathfinder());
+            return new CachingPathfinder(inner, caching.getCache());
+        } else if (template instanceof DStarLitePathfinder) {
+            return null; // gehört einer Einheit, wird direkt verwendet
+        } else if (template instanceof JumpPointPathfinder) {
+            copy = new JumpPointPathfinder(template.getGridWidth(), template.getGridHeight());
+        } else if (template instanceof HierarchicalPathfinder) {
+            HierarchicalPathfinder hierarchical = new HierarchicalPathfinder(template.getGridWidth(), template.getGridHeight());
+            obstacles.addListener(hierarchical);
+            copy = hierarchical;
+        } else {
+            copy = new AStarPathfinder(template.getGridWidth(), template.getGridHeight());
+        }
+        copy.setObstacleLayer(obstacles);
+        return copy;
+    }
+
+    /**
+     * Meldet eine Worker-Kopie wieder von den Hindernissen ab
+     */
+    private void releaseWorkerPathfinder(GridPathfinder copy) {
+        if (copy instanceof CachingPathfinder) {
+            releaseWorkerPathfinder(((CachingPathfinder) copy).getPathfinder());
+        } else if (copy instanceof HierarchicalPathfinder) {
+            obstacles.removeListener((HierarchicalPathfinder) copy);
+        }
+    }
+
+    /**
+     * Beendet alle Threads (PathService, Update, Log-Leser)
+     */
+    public void dispose() {
+        pathService.dispose();
+        unitUpdater.dispose();
+        eventLog.stopConsumer();
+    }
+
+    // Getter
+    public DotGrid getGrid() {
+        return grid;
+    }
+
+    public ObstacleLayer getObstacles() {
+        return obstacles;
+    }
+
+    public float getPathBudgetMillis() {
+        return pathBudgetMillis;
+    }
+
+    public int getIncrementalUnits() {
+        return incrementalUnits;
+    }
+
+    public List<GridUnit> getUnits() {
+        return units;
+    }
+
+    public UnitStore getUnitStore() {
+        return unitStore;
+    }
+
+    public UnitUpdater getUnitUpdater() {
+        return unitUpdater;
+    }
+
+    public UnitEventLog getEventLog() {
+        return eventLog;
+    }
+
+    public PathService getPathService() {
+        return pathService;
+    }
+
+    /**
+     * Pfad-Cache einer Pfadsuche (Index in PATHFINDER_NAMES, ohne D* Lite)
+     */
+    public PathCache getPathCache(int mode) {
+        return pathCaches[mode];
+    }
+
+    public int getPathCacheCount() {
+        return pathCaches.length;
+    }
+
+    public JumpPointPathfinder getJumpPointPathfinder() {
+        return jumpPointPathfinder;
+    }
+
+    public HierarchicalPathfinder getHierarchicalPathfinder() {
+        return hierarchicalPathfinder;
+    }
+
+    public FlowFieldCache getFlowFieldCache() {
+        return flowFieldCache;
+    }
+
+    public FlowField getActiveFlowField() {
+        return activeFlowField;
+    }
+
+    public IntArray getWaypoints() {
+        return waypoints;
+    }
+
+    public int getPathfinderMode() {
+        return pathfinderMode;
+    }
+
+    public boolean isFlowFieldMode() {
+        return flowFieldMode;
+    }
+
+    public boolean isReservations() {
+        return useReservations;
+    }
+
+    public boolean isPathServiceEnabled() {
+        return usePathService;
+    }
+
+    public boolean isPathCacheEnabled() {
+        return usePathCache;
+    }
+}
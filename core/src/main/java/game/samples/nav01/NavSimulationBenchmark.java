@@ -0,0 +1,108 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.math.MathUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Durchsatz der nav01-Simulation ohne Fenster und ohne Rendering: N Einheiten,
+ * fester Zeitschritt, fester Seed. Gibt Ticks/s, p50/p99/max pro Tick und die
+ * Allokationsrate aller Threads aus.
+ *
+ * Aufruf: main([Einheiten] [Ticks] [Seed] [parallel] [pathService])
+ * Ohne PathService ist der Lauf bei gleichem Seed reproduzierbar (Prüfsumme).
+ * Mit PathService hängt die Reihenfolge der Lösungen vom Zeitbudget ab.
+ */
+public class NavSimulationBenchmark {
+    private static final float MAP_WIDTH = 3200f;
+    private static final float MAP_HEIGHT = 2400f;
+    private static final float SPACING = 20f; // feinstes Gitter (161 x 121)
+    private static final float STEP = 1f / 60f;
+    private static final int WARMUP_TICKS = 600;
+    private static final int OBSTACLE_BLOCKS = 40;
+
+    public static void main(String[] args) {
+        int unitCount = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 3000;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42L;
+        boolean parallel = args.length > 3 && Boolean.parseBoolean(args[3]);
+        boolean pathService = args.length > 4 && Boolean.parseBoolean(args[4]);
+
+        int threads = Runtime.getRuntime().availableProcessors();
+        MathUtils.random.setSeed(seed);
+        NavSimulation simulation = new NavSimulation(MAP_WIDTH, MAP_HEIGHT, SPACING,
+            pathService ? Math.max(1, Math.min(4, threads - 1)) : 0, threads);
+        simulation.getEventLog().setLevel(UnitEventLog.OFF);
+        simulation.getUnitUpdater().setParallel(parallel);
+        simulation.setPathServiceEnabled(pathService);
+
+        DotGrid grid = simulation.getGrid();
+        ObstacleLayer obstacles = simulation.getObstacles();
+        for (int i = 0; i < OBSTACLE_BLOCKS; i++) {
+            int minX = MathUtils.random(0, grid.getGridWidth() - 1);
+            int minY = MathUtils.random(0, grid.getGridHeight() - 1);
+            obstacles.stampRect(minX, minY, minX + MathUtils.random(2, 8), minY + MathUtils.random(2, 8), true);
+        }
+        for (int i = 0; i < unitCount; i++) {
+            simulation.spawnRandomUnit();
+        }
+
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            simulation.step(STEP);
+        }
+
+        com.sun.management.ThreadMXBean threadBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long[] tickNanos = new long[ticks];
+
+        long allocatedBefore = allocatedBytes(threadBean);
+        long begin = System.nanoTime();
+        for (int i = 0; i < ticks; i++) {
+            long tickBegin = System.nanoTime();
+            simulation.step(STEP);
+            tickNanos[i] = System.nanoTime() - tickBegin;
+        }
+        long elapsed = System.nanoTime() - begin;
+        long allocated = allocatedBytes(threadBean) - allocatedBefore;
+
+        Arrays.sort(tickNanos);
+        double seconds = elapsed / 1e9;
+        System.out.println("=== nav01: " + unitCount + " Einheiten, " + ticks + " Ticks, Seed " + seed +
+            ", " + (parallel ? "parallel (" + threads + " Threads)" : "seriell") +
+            ", PathService " + (pathService ? "AN" : "AUS") + " ===");
+        System.out.println(String.format("  %.0f Ticks/s, p50 %.3f ms, p99 %.3f ms, max %.3f ms",
+            ticks / seconds, percentile(tickNanos, 0.50) / 1e6, percentile(tickNanos, 0.99) / 1e6,
+            tickNanos[ticks - 1] / 1e6));
+        System.out.println(String.format("  Allokation: %.1f KB/Tick, %.1f MB/s",
+            allocated / 1024.0 / ticks, allocated / 1024.0 / 1024.0 / seconds));
+        System.out.println("  Prüfsumme: " + Long.toHexString(checksum(simulation.getUnitStore())));
+
+        simulation.dispose();
+    }
+
+    /**
+     * Summe über alle lebenden Threads (Spiel-Thread, Update-Pool, Path-Worker)
+     */
+    private static long allocatedBytes(com.sun.management.ThreadMXBean threadBean) {
+        long total = 0;
+        for (long bytes : threadBean.getThreadAllocatedBytes(threadBean.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int)(sorted.length * p))];
+    }
+
+    private static long checksum(UnitStore store) {
+        long hash = 17;
+        for (int i = 0; i < store.size(); i++) {
+            hash = hash * 31 + Float.floatToIntBits(store.getPositionX(i));
+            hash = hash * 31 + Float.floatToIntBits(store.getPositionY(i));
+            hash = hash * 31 + store.getCell(i);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,270 @@
+package game.samples.nav01;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hindernis-Ebene über dem DotGrid als Bitset (ein Bit pro Zelle, 64 Zellen pro long).
+ *
+ * Rechteck- und Kreis-Stempel setzen ganze Zeilenabschnitte wortweise.
+ * Jede Änderung erhöht die Version und meldet den betroffenen Bereich an
+ * die Listener, damit Pfad-Caches nur diesen Bereich verwerfen müssen.
+ */
+public class ObstacleLayer {
+    // Bits für passableNeighbors()
+    public static final int RIGHT = 1;
+    public static final int LEFT = 2;
+    public static final int UP = 4;
+    public static final int DOWN = 8;
+
+    /**
+     * Wird nach jeder Änderung mit dem betroffenen Bereich (Grid-Koordinaten, inklusive) aufgerufen
+     */
+    public interface Listener {
+        void obstaclesChanged(int minX, int minY, int maxX, int maxY);
+    }
+
+    private long[] bits;
+    private int gridWidth;
+    private int gridHeight;
+
+    private int blockedCount;
+    private int version;
+
+    private final List<Listener> listeners;
+
+    public ObstacleLayer(int gridWidth, int gridHeight) {
+        this.bits = new long[0];
+        this.listeners = new ArrayList<>();
+        resize(gridWidth, gridHeight);
+    }
+
+    /**
+     * Passt die Ebene an eine neue Gittergröße an und entfernt alle Hindernisse.
+     * Das Array wächst nur.
+     */
+    public void resize(int gridWidth, int gridHeight) {
+        this.gridWidth = gridWidth;
+        this.gridHeight = gridHeight;
+
+        int words = (gridWidth * gridHeight + 63) >>> 6;
+        if (words > bits.length) {
+            bits = new long[words];
+        } else {
+            Arrays.fill(bits, 0L);
+        }
+        blockedCount = 0;
+        version++;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isBlocked(int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    public boolean isBlocked(int gridX, int gridY) {
+        return isBlocked(gridY * gridWidth + gridX);
+    }
+
+    /**
+     * Passierbare Nachbarn einer Zelle als Bitmaske (RIGHT, LEFT, UP, DOWN)
+     */
+    public int passableNeighbors(int cell) {
+        int x = cell % gridWidth;
+        int y = cell / gridWidth;
+        int mask = 0;
+
+        // Links/rechts liegen fast immer im selben Wort
+        long word = bits[cell >>> 6];
+        int bit = cell & 63;
+
+        if (x + 1 < gridWidth) {
+            boolean blocked = bit < 63 ? (word & (1L << (bit + 1))) != 0 : isBlocked(cell + 1);
+            if (!blocked) mask |= RIGHT;
+        }
+        if (x > 0) {
+            boolean blocked = bit > 0 ? (word & (1L << (bit - 1))) != 0 : isBlocked(cell - 1);
+            if (!blocked) mask |= LEFT;
+        }
+        if (y + 1 < gridHeight && !isBlocked(cell + gridWidth)) mask |= UP;
+        if (y > 0 && !isBlocked(cell - gridWidth)) mask |= DOWN;
+
+        return mask;
+    }
+
+    /**
+     * 64 Zellen einer Zeile ab gridX als Bitmaske (Bit i = Zelle gridX + i).
+     * Zellen außerhalb des Gitters gelten als blockiert.
+     */
+    public long getRowBits(int gridX, int gridY) {
+        if (gridY < 0 || gridY >= gridHeight) return -1L;
+
+        int from = Math.max(gridX, 0);
+        int to = Math.min(gridX + 64, gridWidth);
+        if (from >= to) return -1L;
+
+        // Bits ab beliebiger Position aus zwei Wörtern zusammensetzen
+        int bitIndex = gridY * gridWidth + from;
+        int word = bitIndex >>> 6;
+        int shift = bitIndex & 63;
+        long value = bits[word] >>> shift;
+        if (shift != 0 && word + 1 < bits.length) {
+            value |= bits[word + 1] << (64 - shift);
+        }
+
+        int count = to - from;
+        long inside = count == 64 ? -1L : (1L << count) - 1;
+        int offset = from - gridX;
+        return ((value & inside) << offset) | ~(inside << offset);
+    }
+
+    /**
+     * Prüft ob in einem Rechteck mindestens eine Zelle blockiert ist
+     */
+    public boolean anyBlocked(int minX, int minY, int maxX, int maxY) {
+        for (int y = minY; y <= maxY; y++) {
+            int from = y * gridWidth + minX;
+            int to = y * gridWidth + maxX + 1;
+            if (anyInRange(from, to)) return true;
+        }
+        return false;
+    }
+
+    public void setBlocked(int gridX, int gridY, boolean blocked) {
+        stampRect(gridX, gridY, gridX, gridY, blocked);
+    }
+
+    /**
+     * Setzt oder entfernt Hindernisse in einem Rechteck (Grid-Koordinaten, inklusive)
+     */
+    public void stampRect(int minX, int minY, int maxX, int maxY, boolean blocked) {
+        minX = Math.max(0, minX);
+        minY = Math.max(0, minY);
+        maxX = Math.min(gridWidth - 1, maxX);
+        maxY = Math.min(gridHeight - 1, maxY);
+        if (minX > maxX || minY > maxY) return;
+
+        boolean changed = false;
+        for (int y = minY; y <= maxY; y++) {
+            int rowStart = y * gridWidth;
+            changed |= setRange(rowStart + minX, rowStart + maxX + 1, blocked);
+        }
+
+        if (changed) {
+            notifyChanged(minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Setzt oder entfernt Hindernisse in einem Kreis (Grid-Koordinaten, Radius in Zellen)
+     */
+    public void stampCircle(int centerX, int centerY, int radius, boolean blocked) {
+        int minY = Math.max(0, centerY - radius);
+        int maxY = Math.min(gridHeight - 1, centerY + radius);
+        int minX = Math.max(0, centerX - radius);
+        int maxX = Math.min(gridWidth - 1, centerX + radius);
+        if (minX > maxX || minY > maxY) return;
+
+        boolean changed = false;
+        for (int y = minY; y <= maxY; y++) {
+            int dy = y - centerY;
+            int halfWidth = (int) Math.sqrt(radius * radius - dy * dy);
+            int from = Math.max(0, centerX - halfWidth);
+            int to = Math.min(gridWidth - 1, centerX + halfWidth);
+            if (from > to) continue;
+
+            int rowStart = y * gridWidth;
+            changed |= setRange(rowStart + from, rowStart + to + 1, blocked);
+        }
+
+        if (changed) {
+            notifyChanged(minX, minY, maxX, maxY);
+        }
+    }
+
+    /**
+     * Entfernt alle Hindernisse
+     */
+    public void clear() {
+        if (blockedCount == 0) return;
+
+        Arrays.fill(bits, 0L);
+        blockedCount = 0;
+        notifyChanged(0, 0, gridWidth - 1, gridHeight - 1);
+    }
+
+    /**
+     * Setzt die Bits [from, to) wortweise
+     * @return true wenn sich mindestens ein Bit geändert hat
+     */
+    private boolean setRange(int from, int to, boolean blocked) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+        boolean changed = false;
+
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = -1L;
+            if (w == firstWord) mask &= -1L << (from & 63);
+            if (w == lastWord) mask &= -1L >>> (63 - ((to - 1) & 63));
+
+            long old = bits[w];
+            long updated = blocked ? old | mask : old & ~mask;
+            if (updated != old) {
+                bits[w] = updated;
+                blockedCount += Long.bitCount(updated) - Long.bitCount(old);
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    private boolean anyInRange(int from, int to) {
+        int firstWord = from >>> 6;
+        int lastWord = (to - 1) >>> 6;
+
+        for (int w = firstWord; w <= lastWord; w++) {
+            long mask = -1L;
+            if (w == firstWord) mask &= -1L << (from & 63);
+            if (w == lastWord) mask &= -1L >>> (63 - ((to - 1) & 63));
+            if ((bits[w] & mask) != 0) return true;
+        }
+
+        return false;
+    }
+
+    private void notifyChanged(int minX, int minY, int maxX, int maxY) {
+        version++;
+        for (int i = 0; i < listeners.size(); i++) {
+            listeners.get(i).obstaclesChanged(minX, minY, maxX, maxY);
+        }
+    }
+
+    // Getter
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    public int getGridHeight() {
+        return gridHeight;
+    }
+
+    public int getBlockedCount() {
+        return blockedCount;
+    }
+
+    /**
+     * Wird bei jeder Änderung erhöht
+     */
+    public int getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,381 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongMap;
+
+/**
+ * Speichert berechnete Pfade nach (Start-Zelle, Ziel-Zelle), LRU mit Speicherobergrenze.
+ *
+ * Ein Pfad wird als Start-Zelle plus 2 Bit Richtung pro Schritt abgelegt
+ * (4 Schritte pro Byte). Neben exakten Treffern werden auch Suffix-Treffer
+ * bedient: liegt der Start einer Anfrage auf einem gespeicherten Pfad zum
+ * selben Ziel, wird der Rest dieses Pfads geliefert.
+ *
+ * Bei Hindernis-Änderungen fallen nur Pfade heraus, die durch eine jetzt
+ * blockierte Zelle im geänderten Bereich laufen (Bounding-Box-Test, dann
+ * exakt). Entfernte Hindernisse lassen gespeicherte Pfade gültig, sie sind
+ * danach aber evtl. nicht mehr die kürzesten.
+ *
+ * Angerechnet wird der tatsächlich belegte Schritt-Puffer. Freigegebene
+ * Einträge werden wiederverwendet, der Pool ist aber klein gehalten
+ * (MAX_FREE_ENTRIES, große Puffer werden nicht aufgehoben) und liegt damit
+ * außerhalb der Obergrenze bei höchstens ~22 KB.
+ *
+ * Alle öffentlichen Methoden sind synchronisiert (Zugriff aus PathService-Workern).
+ */
+public class PathCache implements ObstacleLayer.Listener {
+    // Geschätzter Verwaltungsaufwand pro Eintrag (Objekt, Map-Eintrag, Array-Kopf)
+    private static final int ENTRY_OVERHEAD = 96;
+
+    // Pool für freigegebene Einträge
+    private static final int MAX_FREE_ENTRIES = 64;
+    private static final int MAX_POOLED_STEP_BYTES = 256; // 1024 Schritte
+
+    private static final int STEP_RIGHT = 0;
+    private static final int STEP_LEFT = 1;
+    private static final int STEP_UP = 2;
+    private static final int STEP_DOWN = 3;
+
+    private static class Entry {
+        long key;
+        int startCell;
+        int goalCell;
+        int length;   // Schritte
+        byte[] steps = new byte[0];
+        int bytes;    // angerechneter Speicher
+        int minX, minY, maxX, maxY;
+
+        // LRU-Liste (head = zuletzt benutzt)
+        Entry prev;
+        Entry next;
+
+        // Einträge mit gleichem Ziel (für Suffix-Treffer)
+        Entry goalPrev;
+        Entry goalNext;
+    }
+
+    private final long maxBytes;
+    private final LongMap<Entry> entries;
+    private final IntMap<Entry> goalChains;
+    private final Array<Entry> freeEntries;
+
+    private Entry head;
+    private Entry tail;
+    private long usedBytes;
+
+    private ObstacleLayer obstacles;
+    private int gridWidth;
+
+    // Statistik
+    private int hits;
+    private int suffixHits;
+    private int misses;
+    private int evictions;
+    private int invalidations;
+
+    public PathCache(int gridWidth, long maxBytes) {
+        this.gridWidth = gridWidth;
+        this.maxBytes = maxBytes;
+        this.entries = new LongMap<>();
+        this.goalChains = new IntMap<>();
+        this.freeEntries = new Array<>();
+    }
+
+    /**
+     * Sucht einen Pfad (exakt oder als Suffix eines längeren Pfads)
+     * @return true bei Treffer, outPath enthält dann die Zellen ohne Start
+     */
+    public synchronized boolean get(int startCell, int goalCell, IntArray outPath) {
+        outPath.clear();
+
+        Entry entry = entries.get(key(startCell, goalCell));
+        if (entry != null) {
+            decode(entry, -1, outPath);
+            touch(entry);
+            hits++;
+            return true;
+        }
+
+        // Liegt der Start auf einem gespeicherten Pfad zum selben Ziel?
+        int x = startCell % gridWidth;
+        int y = startCell / gridWidth;
+        for (Entry e = goalChains.get(goalCell); e != null; e = e.goalNext) {
+            if (x < e.minX || x > e.maxX || y < e.minY || y > e.maxY) continue;
+
+            if (decode(e, startCell, outPath)) {
+                touch(e);
+                suffixHits++;
+                return true;
+            }
+        }
+
+        misses++;
+        return false;
+    }
+
+    /**
+     * Speichert einen Pfad (Zellen ohne Start, inklusive Ziel)
+     */
+    public synchronized void put(int startCell, int goalCell, IntArray path) {
+        if (path.size == 0) return;
+
+        int byteCount = (path.size + 3) >>> 2;
+        if (ENTRY_OVERHEAD + byteCount > maxBytes) return;
+
+        long key = key(startCell, goalCell);
+        Entry existing = entries.get(key);
+        if (existing != null) {
+            remove(existing);
+        }
+
+        Entry entry = obtain(byteCount);
+        entry.bytes = ENTRY_OVERHEAD + entry.steps.length;
+        while (usedBytes + entry.bytes > maxBytes && tail != null) {
+            remove(tail);
+            evictions++;
+        }
+
+        entry.key = key;
+        entry.startCell = startCell;
+        entry.goalCell = goalCell;
+        encode(entry, path);
+
+        // Vorne in die LRU-Liste
+        entry.prev = null;
+        entry.next = head;
+        if (head != null) head.prev = entry;
+        head = entry;
+        if (tail == null) tail = entry;
+
+        // In die Kette des Ziels
+        Entry chain = goalChains.get(goalCell);
+        entry.goalPrev = null;
+        entry.goalNext = chain;
+        if (chain != null) chain.goalPrev = entry;
+        goalChains.put(goalCell, entry);
+
+        entries.put(key, entry);
+        usedBytes += entry.bytes;
+    }
+
+    /**
+     * Verwirft nur Pfade, die durch eine jetzt blockierte Zelle im Bereich laufen
+     */
+    @Override
+    public synchronized void obstaclesChanged(int minX, int minY, int maxX, int maxY) {
+        if (obstacles == null) {
+            clear();
+            return;
+        }
+
+        Entry entry = head;
+        while (entry != null) {
+            Entry next = entry.next;
+            if (entry.maxX >= minX && entry.minX <= maxX && entry.maxY >= minY && entry.minY <= maxY
+                && crossesBlocked(entry, minX, minY, maxX, maxY)) {
+                remove(entry);
+                invalidations++;
+            }
+            entry = next;
+        }
+    }
+
+    private boolean crossesBlocked(Entry entry, int minX, int minY, int maxX, int maxY) {
+        int cell = entry.startCell;
+        for (int i = 0; i < entry.length; i++) {
+            cell = step(cell, entry.steps, i);
+            int x = cell % gridWidth;
+            int y = cell / gridWidth;
+            if (x >= minX && x <= maxX && y >= minY && y <= maxY && obstacles.isBlocked(cell)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized void clear() {
+        while (head != null) {
+            remove(head);
+        }
+    }
+
+    /**
+     * Neue Gittergröße: alle Zell-Indizes sind ungültig
+     */
+    public synchronized void resize(int gridWidth) {
+        clear();
+        this.gridWidth = gridWidth;
+    }
+
+    public synchronized void setObstacleLayer(ObstacleLayer obstacles) {
+        this.obstacles = obstacles;
+        clear();
+    }
+
+    // === Kodierung ===
+
+    private void encode(Entry entry, IntArray path) {
+        entry.length = path.size;
+
+        int cell = entry.startCell;
+        int minX = cell % gridWidth;
+        int minY = cell / gridWidth;
+        int maxX = minX;
+        int maxY = minY;
+
+        for (int i = 0; i < path.size; i++) {
+            int next = path.get(i);
+            int diff = next - cell;
+            int direction;
+            if (diff == 1) direction = STEP_RIGHT;
+            else if (diff == -1) direction = STEP_LEFT;
+            else if (diff == gridWidth) direction = STEP_UP;
+            else direction = STEP_DOWN;
+
+            int shift = (i & 3) << 1;
+            int index = i >>> 2;
+            if (shift == 0) entry.steps[index] = 0;
+            entry.steps[index] |= (byte)(direction << shift);
+
+            int x = next % gridWidth;
+            int y = next / gridWidth;
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+            cell = next;
+        }
+
+        entry.minX = minX;
+        entry.minY = minY;
+        entry.maxX = maxX;
+        entry.maxY = maxY;
+    }
+
+    /**
+     * Schreibt die Zellen nach fromCell (ganzer Pfad bei -1) nach out
+     * @return false wenn fromCell nicht auf dem Pfad liegt
+     */
+    private boolean decode(Entry entry, int fromCell, IntArray out) {
+        boolean collecting = fromCell < 0;
+        int cell = entry.startCell;
+
+        for (int i = 0; i < entry.length; i++) {
+            cell = step(cell, entry.steps, i);
+            if (collecting) {
+                out.add(cell);
+            } else if (cell == fromCell) {
+                collecting = true;
+            }
+        }
+
+        // fromCell war das Ziel selbst: leerer Rest, kein Treffer
+        return collecting && (fromCell < 0 || out.size > 0);
+    }
+
+    private int step(int cell, byte[] steps, int i) {
+        int direction = (steps[i >>> 2] >>> ((i & 3) << 1)) & 3;
+        switch (direction) {
+            case STEP_RIGHT: return cell + 1;
+            case STEP_LEFT: return cell - 1;
+            case STEP_UP: return cell + gridWidth;
+            default: return cell - gridWidth;
+        }
+    }
+
+    // === Verwaltung ===
+
+    private void touch(Entry entry) {
+        if (entry == head) return;
+
+        // Aus der Liste lösen ...
+        entry.prev.next = entry.next;
+        if (entry.next != null) entry.next.prev = entry.prev;
+        else tail = entry.prev;
+
+        // ... und vorne einhängen
+        entry.prev = null;
+        entry.next = head;
+        head.prev = entry;
+        head = entry;
+    }
+
+    private void remove(Entry entry) {
+        if (entry.prev != null) entry.prev.next = entry.next;
+        else head = entry.next;
+        if (entry.next != null) entry.next.prev = entry.prev;
+        else tail = entry.prev;
+
+        if (entry.goalPrev != null) {
+            entry.goalPrev.goalNext = entry.goalNext;
+        } else if (entry.goalNext != null) {
+            goalChains.put(entry.goalCell, entry.goalNext);
+        } else {
+            goalChains.remove(entry.goalCell);
+        }
+        if (entry.goalNext != null) entry.goalNext.goalPrev = entry.goalPrev;
+
+        entries.remove(entry.key);
+        usedBytes -= entry.bytes;
+
+        entry.prev = null;
+        entry.next = null;
+        entry.goalPrev = null;
+        entry.goalNext = null;
+        // Pool begrenzt halten, lange Pfade nicht aufheben
+        if (freeEntries.size < MAX_FREE_ENTRIES && entry.steps.length <= MAX_POOLED_STEP_BYTES) {
+            freeEntries.add(entry);
+        }
+    }
+
+    /**
+     * Eintrag aus dem Pool; ein Puffer, der zu klein oder mehr als doppelt so
+     * groß wie nötig ist, wird ersetzt
+     */
+    private Entry obtain(int byteCount) {
+        Entry entry = freeEntries.size > 0 ? freeEntries.pop() : new Entry();
+        if (entry.steps.length < byteCount || entry.steps.length > 2 * byteCount) {
+            entry.steps = new byte[byteCount];
+        }
+        return entry;
+    }
+
+    private static long key(int startCell, int goalCell) {
+        return ((long) startCell << 32) | (goalCell & 0xFFFFFFFFL);
+    }
+
+    // Getter
+    public synchronized int size() {
+        return entries.size;
+    }
+
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized int getHits() {
+        return hits;
+    }
+
+    public synchronized int getSuffixHits() {
+        return suffixHits;
+    }
+
+    public synchronized int getMisses() {
+        return misses;
+    }
+
+    public synchronized int getEvictions() {
+        return evictions;
+    }
+
+    public synchronized int getInvalidations() {
+        return invalidations;
+    }
+}
@@ -0,0 +1,346 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.IdentityHashMap;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sammelt Pfadanfragen der Einheiten und löst sie gebündelt einmal pro Frame.
+ *
+ * update() startet alle Worker gleichzeitig; jeder holt sich Anfragen aus
+ * der gemeinsamen Warteschlange, bis das Zeitbudget des Frames verbraucht
+ * ist. Danach wartet der Spiel-Thread, bis alle Worker fertig sind - die
+ * Ergebnisse liegen damit wieder im Spiel-Thread vor, und Hindernisse oder
+ * Einheiten werden nie gleichzeitig verändert und gelesen.
+ *
+ * Jeder Worker hat eigene Pathfinder-Kopien (eigene Arrays). Sie werden
+ * schon in submit() im Spiel-Thread angelegt, die Worker lesen sie nur. Wartende
+ * Einheiten ohne Weg werden vor Einheiten bedient, die noch laufen.
+ * Mit 0 Workern rechnet der Spiel-Thread selbst (gleiches Budget).
+ * Wirft ein Pathfinder eine Exception, gibt update() sie im Spiel-Thread weiter.
+ */
+public class PathService {
+
+    /**
+     * Erzeugt für einen Worker eine eigene Kopie des Pathfinders.
+     * null = den Pathfinder selbst verwenden (z.B. eigener D* Lite Planer pro Einheit).
+     */
+    public interface PathfinderFactory {
+        GridPathfinder createWorkerCopy(GridPathfinder template);
+
+        /**
+         * Gibt eine Kopie wieder frei (z.B. als Hindernis-Listener abmelden)
+         */
+        default void releaseWorkerCopy(GridPathfinder copy) {
+        }
+    }
+
+    /**
+     * Eine Anfrage pro Einheit, wird wiederverwendet
+     */
+    public static class Request implements Comparable<Request> {
+        private static final int NONE = 0;
+        private static final int QUEUED = 1;
+        private static final int DONE = 2;
+
+        private int status = NONE;
+        private GridPathfinder pathfinder;
+        private int startCell;
+        private int goalCell;
+        private boolean idle;
+        private long sequence;
+
+        private IntArray path = new IntArray();
+        private boolean found;
+        private int obstacleVersion;
+
+        /**
+         * Übernimmt den berechneten Pfad. Das übergebene Array wird dafür
+         * zum neuen Puffer der Anfrage (kein Kopieren).
+         */
+        public IntArray takePath(IntArray oldPath) {
+            IntArray result = path;
+            path = oldPath;
+            path.clear();
+            status = NONE;
+            return result;
+        }
+
+        @Override
+        public int compareTo(Request other) {
+            // Wartende Einheiten zuerst, sonst in Reihenfolge der Anfragen
+            if (idle != other.idle) return idle ? -1 : 1;
+            return Long.compare(sequence, other.sequence);
+        }
+
+        // Getter
+        public boolean isQueued() {
+            return status == QUEUED;
+        }
+
+        public boolean isDone() {
+            return status == DONE;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        public int getStartCell() {
+            return startCell;
+        }
+
+        public int getGoalCell() {
+            return goalCell;
+        }
+
+        /**
+         * Hindernis-Version, mit der der Pfad berechnet wurde
+         */
+        public int getObstacleVersion() {
+            return obstacleVersion;
+        }
+    }
+
+    /**
+     * Löst Anfragen mit eigenen Pathfinder-Kopien
+     */
+    private class Worker implements Runnable {
+        private final IdentityHashMap<GridPathfinder, GridPathfinder> copies = new IdentityHashMap<>();
+        private int solved;
+
+        private void solveUntil(long deadline) {
+            solved = 0;
+            Request request;
+            // Mindestens eine Anfrage pro Frame, damit nichts verhungert
+            while ((solved == 0 || System.nanoTime() < deadline) && (request = queue.poll()) != null) {
+                solve(request);
+                solved++;
+            }
+        }
+
+        /**
+         * Legt die Kopie für template an, falls nötig. Nur aus dem Spiel-Thread.
+         */
+        private void prepareCopy(GridPathfinder template) {
+            if (copies.containsKey(template)) return;
+
+            GridPathfinder copy = factory.createWorkerCopy(template);
+            if (copy != null) {
+                copies.put(template, copy);
+            }
+        }
+
+        private void releaseCopies() {
+            for (GridPathfinder copy : copies.values()) {
+                factory.releaseWorkerCopy(copy);
+            }
+            copies.clear();
+        }
+
+        private void solve(Request request) {
+            // Kopien legt submit() an, ohne Kopie gehört der Pathfinder einer Einheit
+            GridPathfinder pathfinder = copies.get(request.pathfinder);
+            if (pathfinder == null) {
+                pathfinder = request.pathfinder;
+            }
+
+            try {
+                request.found = pathfinder.findPath(request.startCell, request.goalCell, request.path);
+            } catch (RuntimeException e) {
+                // Nicht verschlucken: update() wirft den ersten Fehler im Spiel-Thread weiter
+                failure.compareAndSet(null, e);
+                request.path.clear();
+                request.found = false;
+            }
+
+            ObstacleLayer obstacles = pathfinder.getObstacleLayer();
+            request.obstacleVersion = obstacles != null ? obstacles.getVersion() : 0;
+            request.status = Request.DONE;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                phaser.arriveAndAwaitAdvance(); // Start
+                if (shutdown) {
+                    phaser.arriveAndDeregister();
+                    return;
+                }
+                solveUntil(deadline);
+                phaser.arriveAndAwaitAdvance(); // Fertig
+            }
+        }
+    }
+
+    private final PriorityBlockingQueue<Request> queue;
+    private final PathfinderFactory factory;
+    private final Array<Worker> workers;
+    private final Worker localWorker; // für 0 Worker
+    private final Phaser phaser;
+
+    private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+    private volatile boolean shutdown;
+    private long deadline;
+    private long nextSequence;
+
+    // Statistik des letzten Frames
+    private int solvedLastFrame;
+    private float lastUpdateMillis;
+
+    public PathService(int workerCount, PathfinderFactory factory) {
+        this.queue = new PriorityBlockingQueue<>();
+        this.factory = factory;
+        this.workers = new Array<>();
+        this.localWorker = new Worker();
+        this.phaser = new Phaser(1); // Spiel-Thread
+
+        for (int i = 0; i < workerCount; i++) {
+            Worker worker = new Worker();
+            workers.add(worker);
+            phaser.register();
+
+            Thread thread = new Thread(worker, "path-worker-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Stellt eine Anfrage (ersetzt eine noch offene Anfrage desselben Objekts)
+     * @param idle true wenn die Einheit ohne Weg wartet (wird bevorzugt)
+     */
+    public void submit(Request request, GridPathfinder pathfinder, int startCell, int goalCell, boolean idle) {
+        cancel(request);
+        prepareCopies(pathfinder);
+
+        request.pathfinder = pathfinder;
+        request.startCell = startCell;
+        request.goalCell = goalCell;
+        request.idle = idle;
+        request.sequence = nextSequence++;
+        request.found = false;
+        request.status = Request.QUEUED;
+        queue.add(request);
+    }
+
+    /**
+     * Worker-Kopien im Spiel-Thread anlegen, solange die Worker am Phaser warten
+     */
+    private void prepareCopies(GridPathfinder template) {
+        if (workers.size == 0) {
+            localWorker.prepareCopy(template);
+        }
+        for (Worker worker : workers) {
+            worker.prepareCopy(template);
+        }
+    }
+
+    /**
+     * Die Einheit wartet jetzt auf den Pfad - Anfrage vorziehen
+     */
+    public void promote(Request request) {
+        if (request.status != Request.QUEUED || request.idle) return;
+
+        queue.remove(request);
+        request.idle = true;
+        queue.add(request);
+    }
+
+    public void cancel(Request request) {
+        if (request.status == Request.QUEUED) {
+            queue.remove(request);
+        }
+        request.status = Request.NONE;
+    }
+
+    /**
+     * Löst Anfragen, bis das Budget verbraucht ist. Nur aus dem Spiel-Thread aufrufen.
+     * @throws IllegalStateException wenn ein Pathfinder dabei eine Exception geworfen hat
+     */
+    public void update(float budgetMillis) {
+        solvedLastFrame = 0;
+        if (queue.isEmpty()) {
+            lastUpdateMillis = 0f;
+            return;
+        }
+
+        long begin = System.nanoTime();
+        deadline = begin + (long)(budgetMillis * 1_000_000L);
+
+        if (workers.size == 0) {
+            localWorker.solveUntil(deadline);
+            solvedLastFrame = localWorker.solved;
+        } else {
+            phaser.arriveAndAwaitAdvance(); // Worker starten
+            phaser.arriveAndAwaitAdvance(); // auf alle warten
+            for (Worker worker : workers) {
+                solvedLastFrame += worker.solved;
+            }
+        }
+
+        lastUpdateMillis = (System.nanoTime() - begin) / 1_000_000f;
+
+        RuntimeException error = failure.getAndSet(null);
+        if (error != null) {
+            throw new IllegalStateException("Pfadsuche fehlgeschlagen", error);
+        }
+    }
+
+    /**
+     * Passt alle Worker-Kopien an eine neue Gittergröße an und verwirft offene Anfragen
+     */
+    public void resize(int gridWidth, int gridHeight) {
+        clear();
+        for (GridPathfinder copy : localWorker.copies.values()) {
+            copy.resize(gridWidth, gridHeight);
+        }
+        for (Worker worker : workers) {
+            for (GridPathfinder copy : worker.copies.values()) {
+                copy.resize(gridWidth, gridHeight);
+            }
+        }
+    }
+
+    public void clear() {
+        Request request;
+        while ((request = queue.poll()) != null) {
+            request.status = Request.NONE;
+        }
+    }
+
+    /**
+     * Beendet die Worker-Threads und gibt ihre Kopien frei
+     */
+    public void dispose() {
+        clear();
+        localWorker.releaseCopies();
+        for (Worker worker : workers) {
+            worker.releaseCopies();
+        }
+        shutdown = true;
+        phaser.arriveAndDeregister();
+    }
+
+    // Getter
+    public int getWorkerCount() {
+        return workers.size;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public int getSolvedLastFrame() {
+        return solvedLastFrame;
+    }
+
+    public float getLastUpdateMillis() {
+        return lastUpdateMillis;
+    }
+}
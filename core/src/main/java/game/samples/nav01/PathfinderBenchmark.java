@@ -0,0 +1,219 @@
+package game.samples.nav01;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Random;
+
+/**
+ * Vergleicht A*, Jump Point Search und HPA* (expandierte Knoten, Laufzeit,
+ * Pfadlänge) auf offenen und verbauten Karten. Läuft ohne Fenster:
+ * main() direkt aus der IDE starten.
+ */
+public class PathfinderBenchmark {
+    private static final int QUERIES = 2000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    // Neuplanung unterwegs: Einheiten, Runden (je ein Hindernis-Stempel), Schritte pro Runde
+    private static final int REPLAN_UNITS = 50;
+    private static final int REPLAN_ROUNDS = 200;
+    private static final int REPLAN_STEPS = 3;
+
+    public static void main(String[] args) {
+        // 161 x 121 = feinstes nav01-Gitter (Abstand 20), dazu eine große Karte
+        run("Offen 161x121", 161, 121, 0f);
+        run("Verbaut 161x121", 161, 121, 0.25f);
+        run("Offen 512x512", 512, 512, 0f);
+        run("Verbaut 512x512", 512, 512, 0.25f);
+
+        runReplanning("Neuplanung 161x121", 161, 121);
+        runReplanning("Neuplanung 512x512", 512, 512);
+    }
+
+    private static void run(String name, int gridWidth, int gridHeight, float clutter) {
+        Random random = new Random(42);
+
+        ObstacleLayer obstacles = new ObstacleLayer(gridWidth, gridHeight);
+        int targetBlocked = (int)(gridWidth * gridHeight * clutter);
+        while (obstacles.getBlockedCount() < targetBlocked) {
+            int x = random.nextInt(gridWidth);
+            int y = random.nextInt(gridHeight);
+            if (random.nextBoolean()) {
+                obstacles.stampRect(x, y, x + random.nextInt(8), y + random.nextInt(8), true);
+            } else {
+                obstacles.stampCircle(x, y, 1 + random.nextInt(3), true);
+            }
+        }
+
+        // Lange Routen quer über die Karte (linkes Zehntel -> rechtes Zehntel)
+        int[] starts = new int[QUERIES];
+        int[] goals = new int[QUERIES];
+        int band = Math.max(1, gridWidth / 10);
+        for (int i = 0; i < QUERIES; i++) {
+            starts[i] = randomFreeCell(random, obstacles, 0, band);
+            goals[i] = randomFreeCell(random, obstacles, gridWidth - band, gridWidth);
+        }
+
+        AStarPathfinder aStar = new AStarPathfinder(gridWidth, gridHeight);
+        aStar.setObstacleLayer(obstacles);
+        JumpPointPathfinder jps = new JumpPointPathfinder(gridWidth, gridHeight);
+        jps.setObstacleLayer(obstacles);
+        HierarchicalPathfinder hpa = new HierarchicalPathfinder(gridWidth, gridHeight);
+        hpa.setObstacleLayer(obstacles);
+        obstacles.addListener(hpa);
+
+        GridPathfinder[] pathfinders = { aStar, jps, hpa };
+        String[] names = { "A*", "JPS", "HPA*" };
+
+        // Pfadlängen im Vergleich zu A* (kürzester Weg)
+        IntArray path = new IntArray();
+        long[] lengths = new long[pathfinders.length];
+        for (int p = 0; p < pathfinders.length; p++) {
+            for (int i = 0; i < QUERIES; i++) {
+                pathfinders[p].findPath(starts[i], goals[i], path);
+                lengths[p] += path.size;
+            }
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            for (GridPathfinder pathfinder : pathfinders) {
+                measure(pathfinder, starts, goals, path);
+            }
+        }
+
+        System.out.println("=== " + name + " (" + obstacles.getBlockedCount() + " blockiert) ===");
+        for (int p = 0; p < pathfinders.length; p++) {
+            print(names[p], measure(pathfinders[p], starts, goals, path), 100.0 * (lengths[p] - lengths[0]) / lengths[0]);
+        }
+
+        // Kosten einer kleinen Änderung: nur betroffene Cluster werden neu berechnet
+        int rebuiltBefore = hpa.getRebuiltClusters();
+        long begin = System.nanoTime();
+        obstacles.stampCircle(gridWidth / 2, gridHeight / 2, 2, true);
+        hpa.findPath(starts[0], goals[0], path);
+        long editTime = System.nanoTime() - begin;
+        System.out.println(String.format("  HPA* nach Stempel: %d von %d Clustern neu, %.1f us inkl. Anfrage",
+            hpa.getRebuiltClusters() - rebuiltBefore, hpa.getClusterCount(), editTime / 1000.0));
+    }
+
+    /**
+     * Einheiten laufen ihre Pfade ab, pro Runde wird ein Hindernis auf den
+     * Pfad einer Einheit gestempelt und alle planen neu: A* jedes Mal von vorn,
+     * D* Lite inkrementell mit einem Planer pro Einheit.
+     */
+    private static void runReplanning(String name, int gridWidth, int gridHeight) {
+        Random random = new Random(7);
+        ObstacleLayer obstacles = new ObstacleLayer(gridWidth, gridHeight);
+        for (int i = 0; i < gridWidth * gridHeight / 40; i++) {
+            obstacles.stampCircle(random.nextInt(gridWidth), random.nextInt(gridHeight), 1, true);
+        }
+
+        AStarPathfinder aStar = new AStarPathfinder(gridWidth, gridHeight);
+        aStar.setObstacleLayer(obstacles);
+
+        int band = Math.max(1, gridWidth / 10);
+        int[] positions = new int[REPLAN_UNITS];
+        int[] goals = new int[REPLAN_UNITS];
+        DStarLitePathfinder[] planners = new DStarLitePathfinder[REPLAN_UNITS];
+        IntArray[] paths = new IntArray[REPLAN_UNITS];
+        for (int i = 0; i < REPLAN_UNITS; i++) {
+            positions[i] = randomFreeCell(random, obstacles, 0, band);
+            goals[i] = randomFreeCell(random, obstacles, gridWidth - band, gridWidth);
+            planners[i] = new DStarLitePathfinder(gridWidth, gridHeight);
+            planners[i].setObstacleLayer(obstacles);
+            obstacles.addListener(planners[i]);
+            paths[i] = new IntArray();
+            planners[i].findPath(positions[i], goals[i], paths[i]);
+        }
+
+        IntArray path = new IntArray();
+        long aStarExpanded = 0;
+        long aStarTime = 0;
+        long incrementalExpanded = 0;
+        long incrementalTime = 0;
+
+        for (int round = 0; round < REPLAN_ROUNDS; round++) {
+            // Einheiten laufen weiter
+            for (int i = 0; i < REPLAN_UNITS; i++) {
+                IntArray unitPath = paths[i];
+                if (unitPath.size > REPLAN_STEPS) {
+                    positions[i] = unitPath.get(REPLAN_STEPS - 1);
+                }
+            }
+
+            // Hindernis auf den Weg einer Einheit (nicht auf Einheiten oder Ziele)
+            IntArray victim = paths[random.nextInt(REPLAN_UNITS)];
+            if (victim.size > 2 * REPLAN_STEPS) {
+                int cell = victim.get(REPLAN_STEPS + random.nextInt(victim.size - REPLAN_STEPS));
+                int x = cell % gridWidth;
+                int y = cell / gridWidth;
+                if (!isNearAny(positions, goals, x, y, gridWidth)) {
+                    obstacles.stampCircle(x, y, 1, true);
+                }
+            }
+
+            for (int i = 0; i < REPLAN_UNITS; i++) {
+                long begin = System.nanoTime();
+                aStar.findPath(positions[i], goals[i], path);
+                aStarTime += System.nanoTime() - begin;
+                aStarExpanded += aStar.getExpandedNodes();
+
+                begin = System.nanoTime();
+                planners[i].findPath(positions[i], goals[i], paths[i]);
+                incrementalTime += System.nanoTime() - begin;
+                incrementalExpanded += planners[i].getExpandedNodes();
+            }
+        }
+
+        long queries = (long) REPLAN_UNITS * REPLAN_ROUNDS;
+        System.out.println("=== " + name + " (" + REPLAN_UNITS + " Einheiten, " + REPLAN_ROUNDS + " Änderungen) ===");
+        System.out.println(String.format("  A*      %9.1f Knoten/Anfrage  %8.1f us/Anfrage",
+            aStarExpanded / (double) queries, aStarTime / 1000.0 / queries));
+        System.out.println(String.format("  D* Lite %9.1f Knoten/Anfrage  %8.1f us/Anfrage",
+            incrementalExpanded / (double) queries, incrementalTime / 1000.0 / queries));
+    }
+
+    private static boolean isNearAny(int[] positions, int[] goals, int x, int y, int gridWidth) {
+        for (int i = 0; i < positions.length; i++) {
+            if (Math.abs(positions[i] % gridWidth - x) + Math.abs(positions[i] / gridWidth - y) <= 2) return true;
+            if (Math.abs(goals[i] % gridWidth - x) + Math.abs(goals[i] / gridWidth - y) <= 2) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return {Summe expandierter Knoten, Gesamtzeit ns, langsamste Anfrage ns}
+     */
+    private static long[] measure(GridPathfinder pathfinder, int[] starts, int[] goals, IntArray path) {
+        long expanded = 0;
+        long worst = 0;
+        long begin = System.nanoTime();
+
+        for (int i = 0; i < starts.length; i++) {
+            long queryStart = System.nanoTime();
+            pathfinder.findPath(starts[i], goals[i], path);
+            worst = Math.max(worst, System.nanoTime() - queryStart);
+            expanded += pathfinder.getExpandedNodes();
+        }
+
+        return new long[] { expanded, System.nanoTime() - begin, worst };
+    }
+
+    private static void print(String label, long[] result, double lengthOverhead) {
+        System.out.println(String.format("  %-4s %9.1f Knoten/Anfrage  %8.1f us/Anfrage  max %8.1f us  Pfadlänge %+.1f%%",
+            label,
+            result[0] / (double) QUERIES,
+            result[1] / 1000.0 / QUERIES,
+            result[2] / 1000.0,
+            lengthOverhead));
+    }
+
+    private static int randomFreeCell(Random random, ObstacleLayer obstacles, int minX, int maxX) {
+        int gridWidth = obstacles.getGridWidth();
+        while (true) {
+            int x = minX + random.nextInt(maxX - minX);
+            int y = random.nextInt(obstacles.getGridHeight());
+            int cell = y * gridWidth + x;
+            if (!obstacles.isBlocked(cell)) return cell;
+        }
+    }
+}
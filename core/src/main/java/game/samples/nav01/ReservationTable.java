@@ -0,0 +1,154 @@
+package game.samples.nav01;
+
+import java.util.Arrays;
+
+/**
+ * Raum-Zeit-Reservierungen für Grid-Zellen (Cooperative A*).
+ *
+ * Ein Slot gehört zu (Zelle, Tick) und liegt bei cell * window + (tick % window).
+ * Jeder Slot merkt sich, für welchen Tick er gilt - alte Einträge verfallen
+ * dadurch von selbst und müssen nie gelöscht werden. Der Speicher ist auf
+ * cellCount * window begrenzt, Reservieren und Freigeben kosten O(1).
+ */
+public class ReservationTable {
+    private static final int NO_TICK = Integer.MIN_VALUE;
+
+    private final int window;     // Zweierpotenz
+    private final int windowMask;
+    private final float tickDuration;
+
+    private int[] owner;    // Unit-Id pro Slot
+    private int[] slotTick; // Tick, für den der Slot gilt
+
+    private int currentTick;
+    private float tickTimer;
+
+    // Statistik
+    private int conflicts;
+
+    /**
+     * @param window Anzahl vorausplanbarer Ticks (wird auf eine Zweierpotenz aufgerundet)
+     * @param tickDuration Dauer eines Ticks in Sekunden
+     */
+    public ReservationTable(int cellCount, int window, float tickDuration) {
+        this.window = Integer.highestOneBit(Math.max(1, window - 1)) << 1;
+        this.windowMask = this.window - 1;
+        this.tickDuration = tickDuration;
+        this.owner = new int[0];
+        this.slotTick = new int[0];
+        resize(cellCount);
+    }
+
+    /**
+     * Passt die Tabelle an eine neue Zellanzahl an und verwirft alle Reservierungen.
+     * Arrays wachsen nur.
+     */
+    public void resize(int cellCount) {
+        int slots = cellCount * window;
+        if (slots > owner.length) {
+            owner = new int[slots];
+            slotTick = new int[slots];
+        }
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(slotTick, NO_TICK);
+    }
+
+    /**
+     * Lässt die Zeit laufen
+     */
+    public void advance(float deltaTime) {
+        tickTimer += deltaTime;
+        while (tickTimer >= tickDuration) {
+            tickTimer -= tickDuration;
+            currentTick++;
+        }
+    }
+
+    public boolean isFree(int cell, int tick, int unitId) {
+        int slot = slot(cell, tick);
+        return slotTick[slot] != tick || owner[slot] == unitId;
+    }
+
+    public int getOwner(int cell, int tick) {
+        int slot = slot(cell, tick);
+        return slotTick[slot] == tick ? owner[slot] : -1;
+    }
+
+    /**
+     * Reserviert (cell, tick) für die Einheit
+     * @return false wenn schon von einer anderen Einheit belegt
+     */
+    public boolean reserve(int cell, int tick, int unitId) {
+        int slot = slot(cell, tick);
+        if (slotTick[slot] == tick && owner[slot] != unitId) {
+            conflicts++;
+            return false;
+        }
+
+        slotTick[slot] = tick;
+        owner[slot] = unitId;
+        return true;
+    }
+
+    /**
+     * Reserviert die Zelle für alle Ticks von fromTick bis toTick - alles oder nichts.
+     * Der Bereich wird auf das Zeitfenster begrenzt.
+     */
+    public boolean reserveRange(int cell, int fromTick, int toTick, int unitId) {
+        toTick = Math.min(toTick, currentTick + window - 1);
+
+        for (int tick = fromTick; tick <= toTick; tick++) {
+            if (!isFree(cell, tick, unitId)) {
+                conflicts++;
+                return false;
+            }
+        }
+
+        for (int tick = fromTick; tick <= toTick; tick++) {
+            int slot = slot(cell, tick);
+            slotTick[slot] = tick;
+            owner[slot] = unitId;
+        }
+        return true;
+    }
+
+    public void release(int cell, int tick, int unitId) {
+        int slot = slot(cell, tick);
+        if (slotTick[slot] == tick && owner[slot] == unitId) {
+            slotTick[slot] = NO_TICK;
+        }
+    }
+
+    /**
+     * Gibt alle noch im Zeitfenster liegenden Reservierungen der Einheit auf der Zelle frei
+     */
+    public void releaseAll(int cell, int unitId) {
+        for (int tick = currentTick; tick < currentTick + window; tick++) {
+            release(cell, tick, unitId);
+        }
+    }
+
+    private int slot(int cell, int tick) {
+        return cell * window + (tick & windowMask);
+    }
+
+    // Getter
+    public int getCurrentTick() {
+        return currentTick;
+    }
+
+    public float getTickDuration() {
+        return tickDuration;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public int getConflicts() {
+        return conflicts;
+    }
+}
@@ -0,0 +1,181 @@
+package game.samples.nav01;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ereignisse der Einheiten (Ziel gewählt, Grid-Punkt erreicht, ...) als
+ * gepackte long-Werte in einem vorab angelegten Ringpuffer.
+ *
+ * Schreiben ist lock- und allokationsfrei und darf aus mehreren Threads
+ * passieren (parallele Entscheiden-Phase). Ein Slot wird per CAS auf den
+ * Schreibzähler belegt und über seine Sequenznummer veröffentlicht. Ist der
+ * Puffer voll, wird das Ereignis verworfen und gezählt - die Simulation
+ * wartet nie auf den Leser.
+ *
+ * Formatiert wird nur im (optionalen) Hintergrund-Thread. Mit Level OFF
+ * kostet ein Ereignis nur einen Vergleich.
+ */
+public class UnitEventLog {
+    // Level
+    public static final int OFF = 0;
+    public static final int INFO = 1;   // Ziele, Blockaden, Spawns
+    public static final int DEBUG = 2;  // zusätzlich jeder Schritt
+
+    // Ereignis-Typen
+    public static final int SPAWNED = 0;
+    public static final int NEW_TARGET = 1;
+    public static final int GOAL_REACHED = 2;
+    public static final int NO_PATH = 3;
+    public static final int PATH_BLOCKED = 4;
+    public static final int CELL_BLOCKED = 5;
+    public static final int CELL_REACHED = 6;
+    public static final int TURNING = 7;
+    public static final int STEP = 8;
+    public static final int SIDESTEP = 9;
+
+    private static final int[] LEVELS = {
+        INFO, INFO, INFO, INFO, INFO, INFO, DEBUG, DEBUG, DEBUG, INFO
+    };
+    private static final String[] NAMES = {
+        "gespawnt bei", "neues Ziel", "Ziel erreicht", "kein Pfad zu", "Weg blockiert bei",
+        "Zelle blockiert, plane neu bei", "Grid-Punkt erreicht", "Richtungswechsel bei", "bewege weiter zu",
+        "weicht aus nach"
+    };
+
+    // Leser ohne Arbeit: so lange schlafen
+    private static final long IDLE_PARK_NANOS = 5_000_000L;
+
+    private final long[] events;
+    private final AtomicLongArray published; // Sequenz + 1 des geschriebenen Ereignisses pro Slot
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong(); // nächster freier Platz (Schreiber)
+    private volatile long tail;                       // nächstes ungelesenes Ereignis (Leser)
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile int level = INFO;
+    private volatile int gridWidth;
+
+    private Thread consumer;
+    private volatile boolean running;
+
+    /**
+     * @param capacity wird auf die nächste Zweierpotenz aufgerundet
+     */
+    public UnitEventLog(int capacity, int gridWidth) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.events = new long[size];
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.gridWidth = gridWidth;
+    }
+
+    /**
+     * Schreibt ein Ereignis (thread-sicher, ohne Lock)
+     */
+    public void add(int type, int unitId, int cell) {
+        if (LEVELS[type] > level) return;
+
+        long claim;
+        do {
+            claim = head.get();
+            if (claim - tail >= events.length) {
+                dropped.incrementAndGet();
+                return;
+            }
+        } while (!head.compareAndSet(claim, claim + 1));
+
+        int slot = (int) claim & mask;
+        events[slot] = ((long) type << 56) | ((long)(unitId & 0xFFFFFF) << 32) | (cell & 0xFFFFFFFFL);
+        published.lazySet(slot, claim + 1);
+    }
+
+    /**
+     * Liest alle veröffentlichten Ereignisse. Nur aus einem Thread aufrufen.
+     * @return Anzahl gelesener Ereignisse
+     */
+    public int drain(PrintStream out) {
+        int count = 0;
+        long next = tail;
+        while (true) {
+            int slot = (int) next & mask;
+            if (published.get(slot) != next + 1) break;
+
+            long event = events[slot];
+            next++;
+            tail = next; // Slot wieder frei
+            count++;
+
+            if (out != null) {
+                int type = (int)(event >>> 56);
+                int unitId = (int)(event >>> 32) & 0xFFFFFF;
+                int cell = (int) event;
+                int width = gridWidth;
+                out.println("Einheit " + unitId + ": " + NAMES[type] + " (" + cell % width + ", " + cell / width + ")");
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Startet einen Hintergrund-Thread, der laufend nach out schreibt
+     */
+    public synchronized void startConsumer(PrintStream out) {
+        if (consumer != null) return;
+
+        running = true;
+        consumer = new Thread(() -> {
+            while (running) {
+                if (drain(out) == 0) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+            }
+            drain(out);
+        }, "unit-event-log");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    public synchronized void stopConsumer() {
+        if (consumer == null) return;
+
+        running = false;
+        try {
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        consumer = null;
+    }
+
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Neue Gitterbreite für die Ausgabe der Zellen als (x, y)
+     */
+    public void setGridWidth(int gridWidth) {
+        this.gridWidth = gridWidth;
+    }
+
+    // Getter
+    public int getLevel() {
+        return level;
+    }
+
+    public long getWritten() {
+        return head.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public int getCapacity() {
+        return events.length;
+    }
+}
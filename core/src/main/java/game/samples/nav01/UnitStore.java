@@ -0,0 +1,342 @@
+package game.samples.nav01;
+
+/**
+ * Bewegungszustand aller Einheiten als parallele Arrays (Structure of Arrays).
+ *
+ * update() läuft linear über die Arrays, dreht und bewegt alle Einheiten
+ * und legt dabei keine Objekte an. Entscheidungen (nächster Schritt,
+ * Pfadsuche, Reservierungen) trifft weiterhin GridUnit, aber nur für
+ * Einheiten, deren Zustand das verlangt (DEPARTING, ARRIVED, WAITING).
+ *
+ * Einheiten werden nur gemeinsam entfernt (clear), Indizes bleiben also stabil.
+ */
+public class UnitStore {
+    public static final byte ROTATING = 0;
+    public static final byte MOVING = 1;
+    public static final byte DEPARTING = 2; // Schritt geplant, Prüfungen vor dem Losgehen offen
+    public static final byte ARRIVED = 3;   // Grid-Punkt erreicht, nächster Schritt offen
+    public static final byte WAITING = 4;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Position in World-Koordinaten
+    private float[] positionX;
+    private float[] positionY;
+
+    // Rotation in Grad
+    private float[] rotation;
+    private float[] targetRotation;
+
+    // Zustand vor dem aktuellen Schritt, zum Interpolieren beim Zeichnen
+    private float[] previousX;
+    private float[] previousY;
+    private float[] previousRotation;
+
+    private float[] moveSpeed;
+    private float[] rotationSpeed;
+
+    // Zellen (y * gridWidth + x) und World-Position der nächsten Zelle
+    private int[] cell;
+    private int[] nextCell;
+    private int[] targetCell;
+    private float[] nextX;
+    private float[] nextY;
+
+    private byte[] state;
+    private int[] color; // RGBA8888
+
+    private int size;
+    private int gridWidth;
+    private float gridSpacing;
+
+    public UnitStore(int gridWidth, float gridSpacing) {
+        this.gridWidth = gridWidth;
+        this.gridSpacing = gridSpacing;
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Legt eine Einheit an (Zustand WAITING, steht auf der Zelle)
+     * @return Index der Einheit
+     */
+    public int add(int startCell, float startRotation, float speed, float turnSpeed, int rgba) {
+        if (size == state.length) {
+            grow(size * 2);
+        }
+
+        int i = size++;
+        cell[i] = startCell;
+        nextCell[i] = startCell;
+        targetCell[i] = startCell;
+        positionX[i] = cellToWorldX(startCell);
+        positionY[i] = cellToWorldY(startCell);
+        nextX[i] = positionX[i];
+        nextY[i] = positionY[i];
+        rotation[i] = startRotation;
+        targetRotation[i] = 0f;
+        previousX[i] = positionX[i];
+        previousY[i] = positionY[i];
+        previousRotation[i] = startRotation;
+        moveSpeed[i] = speed;
+        rotationSpeed[i] = turnSpeed;
+        state[i] = WAITING;
+        color[i] = rgba;
+        return i;
+    }
+
+    /**
+     * Dreht und bewegt alle Einheiten im Bereich [from, to).
+     * Schreibt nur in die Slots dieser Einheiten.
+     */
+    public void update(float deltaTime, int from, int to) {
+        for (int i = from; i < to; i++) {
+            byte s = state[i];
+            if (s == ROTATING) {
+                rotate(i, deltaTime);
+            } else if (s == MOVING) {
+                move(i, deltaTime);
+            }
+        }
+    }
+
+    public void update(float deltaTime) {
+        update(deltaTime, 0, size);
+    }
+
+    /**
+     * Zu Beginn jedes Simulationsschritts aufrufen, vor decide() (setStep dreht schon)
+     */
+    public void storePreviousState() {
+        System.arraycopy(positionX, 0, previousX, 0, size);
+        System.arraycopy(positionY, 0, previousY, 0, size);
+        System.arraycopy(rotation, 0, previousRotation, 0, size);
+    }
+
+    private void rotate(int i, float deltaTime) {
+        float target = targetRotation[i];
+        float diff = target - rotation[i];
+
+        while (diff > 180f) diff -= 360f;
+        while (diff < -180f) diff += 360f;
+
+        float rotationThisFrame = rotationSpeed[i] * deltaTime;
+        float absDiff = Math.abs(diff);
+        if (absDiff < 2f || absDiff < rotationThisFrame) {
+            rotation[i] = target;
+            state[i] = DEPARTING;
+            return;
+        }
+
+        float r = diff > 0 ? rotation[i] + rotationThisFrame : rotation[i] - rotationThisFrame;
+        while (r >= 360f) r -= 360f;
+        while (r < 0f) r += 360f;
+        rotation[i] = r;
+    }
+
+    private void move(int i, float deltaTime) {
+        float dx = nextX[i] - positionX[i];
+        float dy = nextY[i] - positionY[i];
+        float distance = (float)Math.sqrt(dx * dx + dy * dy);
+        float moveDistance = moveSpeed[i] * deltaTime;
+
+        if (distance <= moveDistance) {
+            // Snap zum Grid-Punkt
+            positionX[i] = nextX[i];
+            positionY[i] = nextY[i];
+            cell[i] = nextCell[i];
+            state[i] = ARRIVED;
+            return;
+        }
+
+        float scale = moveDistance / distance;
+        positionX[i] += dx * scale;
+        positionY[i] += dy * scale;
+    }
+
+    /**
+     * Setzt den nächsten Schritt und dreht dorthin (oder läuft direkt los, wenn die Richtung passt)
+     * @return true wenn gedreht werden muss
+     */
+    public boolean setStep(int i, int next) {
+        nextCell[i] = next;
+        nextX[i] = cellToWorldX(next);
+        nextY[i] = cellToWorldY(next);
+
+        int dx = next % gridWidth - cell[i] % gridWidth;
+        int dy = next / gridWidth - cell[i] / gridWidth;
+        float newTargetRotation = (float)Math.toDegrees(Math.atan2(dy, dx));
+
+        float rotDiff = newTargetRotation - rotation[i];
+        while (rotDiff > 180f) rotDiff -= 360f;
+        while (rotDiff < -180f) rotDiff += 360f;
+
+        if (Math.abs(rotDiff) > 5f) {
+            targetRotation[i] = newTargetRotation;
+            state[i] = ROTATING;
+            return true;
+        }
+
+        rotation[i] = newTargetRotation;
+        state[i] = DEPARTING;
+        return false;
+    }
+
+    /**
+     * Bleibt auf der aktuellen Zelle stehen und wartet
+     */
+    public void stop(int i) {
+        nextCell[i] = cell[i];
+        nextX[i] = positionX[i];
+        nextY[i] = positionY[i];
+        state[i] = WAITING;
+    }
+
+    /**
+     * Alle Einheiten entfernen, ggf. mit neuem Gitter. Arrays bleiben erhalten.
+     */
+    public void clear(int gridWidth, float gridSpacing) {
+        this.gridWidth = gridWidth;
+        this.gridSpacing = gridSpacing;
+        size = 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    private float cellToWorldX(int c) {
+        return (c % gridWidth) * gridSpacing;
+    }
+
+    private float cellToWorldY(int c) {
+        return (c / gridWidth) * gridSpacing;
+    }
+
+    private void allocate(int capacity) {
+        positionX = new float[capacity];
+        positionY = new float[capacity];
+        rotation = new float[capacity];
+        targetRotation = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousRotation = new float[capacity];
+        moveSpeed = new float[capacity];
+        rotationSpeed = new float[capacity];
+        cell = new int[capacity];
+        nextCell = new int[capacity];
+        targetCell = new int[capacity];
+        nextX = new float[capacity];
+        nextY = new float[capacity];
+        state = new byte[capacity];
+        color = new int[capacity];
+    }
+
+    private void grow(int capacity) {
+        float[] oldPositionX = positionX, oldPositionY = positionY;
+        float[] oldRotation = rotation, oldTargetRotation = targetRotation;
+        float[] oldPreviousX = previousX, oldPreviousY = previousY, oldPreviousRotation = previousRotation;
+        float[] oldMoveSpeed = moveSpeed, oldRotationSpeed = rotationSpeed;
+        int[] oldCell = cell, oldNextCell = nextCell, oldTargetCell = targetCell;
+        float[] oldNextX = nextX, oldNextY = nextY;
+        byte[] oldState = state;
+        int[] oldColor = color;
+
+        allocate(capacity);
+        System.arraycopy(oldPositionX, 0, positionX, 0, size);
+        System.arraycopy(oldPositionY, 0, positionY, 0, size);
+        System.arraycopy(oldRotation, 0, rotation, 0, size);
+        System.arraycopy(oldTargetRotation, 0, targetRotation, 0, size);
+        System.arraycopy(oldPreviousX, 0, previousX, 0, size);
+        System.arraycopy(oldPreviousY, 0, previousY, 0, size);
+        System.arraycopy(oldPreviousRotation, 0, previousRotation, 0, size);
+        System.arraycopy(oldMoveSpeed, 0, moveSpeed, 0, size);
+        System.arraycopy(oldRotationSpeed, 0, rotationSpeed, 0, size);
+        System.arraycopy(oldCell, 0, cell, 0, size);
+        System.arraycopy(oldNextCell, 0, nextCell, 0, size);
+        System.arraycopy(oldTargetCell, 0, targetCell, 0, size);
+        System.arraycopy(oldNextX, 0, nextX, 0, size);
+        System.arraycopy(oldNextY, 0, nextY, 0, size);
+        System.arraycopy(oldState, 0, state, 0, size);
+        System.arraycopy(oldColor, 0, color, 0, size);
+    }
+
+    public void setState(int i, byte value) {
+        state[i] = value;
+    }
+
+    public void setTargetCell(int i, int value) {
+        targetCell[i] = value;
+    }
+
+    // Getter
+    public int size() {
+        return size;
+    }
+
+    public float getPositionX(int i) {
+        return positionX[i];
+    }
+
+    public float getPositionY(int i) {
+        return positionY[i];
+    }
+
+    public float getRotation(int i) {
+        return rotation[i];
+    }
+
+    /**
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
+     */
+    public float getRenderX(int i, float alpha) {
+        return previousX[i] + (positionX[i] - previousX[i]) * alpha;
+    }
+
+    public float getRenderY(int i, float alpha) {
+        return previousY[i] + (positionY[i] - previousY[i]) * alpha;
+    }
+
+    public float getRenderRotation(int i, float alpha) {
+        // Kürzester Weg zwischen den beiden Winkeln
+        float diff = rotation[i] - previousRotation[i];
+        if (diff > 180f) diff -= 360f;
+        if (diff < -180f) diff += 360f;
+        return previousRotation[i] + diff * alpha;
+    }
+
+    public float getTargetRotation(int i) {
+        return targetRotation[i];
+    }
+
+    public int getCell(int i) {
+        return cell[i];
+    }
+
+    public int getNextCell(int i) {
+        return nextCell[i];
+    }
+
+    public int getTargetCell(int i) {
+        return targetCell[i];
+    }
+
+    public float getMoveSpeed(int i) {
+        return moveSpeed[i];
+    }
+
+    public byte getState(int i) {
+        return state[i];
+    }
+
+    public int getColor(int i) {
+        return color[i];
+    }
+
+    public int getGridWidth() {
+        return gridWidth;
+    }
+
+    public float getGridSpacing() {
+        return gridSpacing;
+    }
+}
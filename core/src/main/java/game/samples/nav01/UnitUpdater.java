@@ -0,0 +1,165 @@
+package game.samples.nav01;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Aktualisiert alle Einheiten in drei Phasen:
+ *
+ * 1. Entscheiden (GridUnit.decide) - jede Einheit ändert nur ihre eigenen Daten
+ * 2. Übernehmen (GridUnit.commit) - Reservierungen, Pfadsuche, PathService,
+ *    seriell in Einheiten-Reihenfolge
+ * 3. Bewegen (UnitStore.update) - jede Einheit schreibt nur ihre eigenen Slots
+ *
+ * Im parallelen Modus laufen Phase 1 und 3 in Bereichen auf einem ForkJoinPool.
+ * Da die Zielwahl einen eigenen Zufall pro Einheit nutzt und alles Gemeinsame
+ * in Phase 2 passiert, ist das Ergebnis in beiden Modi gleich.
+ */
+public class UnitUpdater {
+    // Darunter lohnt sich das Verteilen nicht
+    private static final int MIN_PARALLEL_UNITS = 1024;
+    // Mehr Bereiche als Threads, damit ungleich teure Bereiche sich ausgleichen
+    private static final int RANGES_PER_THREAD = 4;
+
+    private static final int DECIDE = 0;
+    private static final int MOVE = 1;
+
+    /**
+     * Ein fester Bereich [count * part / parts, count * (part + 1) / parts)
+     */
+    @SuppressWarnings("serial") // wird nie serialisiert
+    private class RangeTask extends RecursiveAction {
+        private final int part;
+
+        private RangeTask(int part) {
+            this.part = part;
+        }
+
+        @Override
+        protected void compute() {
+            int from = (int)((long) count * part / ranges.length);
+            int to = (int)((long) count * (part + 1) / ranges.length);
+            if (phase == DECIDE) {
+                for (int i = from; i < to; i++) {
+                    units.get(i).decide(deltaTime);
+                }
+            } else {
+                store.update(deltaTime, from, to);
+            }
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final RangeTask[] ranges;
+    private final RecursiveAction root;
+
+    private boolean parallel;
+
+    // Daten des laufenden update()
+    private List<GridUnit> units;
+    private UnitStore store;
+    private float deltaTime;
+    private int count;
+    private int phase;
+
+    // Zeiten der letzten update() in ms
+    private float decideMillis;
+    private float commitMillis;
+    private float moveMillis;
+
+    public UnitUpdater(int threadCount) {
+        this.pool = new ForkJoinPool(threadCount);
+        this.ranges = new RangeTask[threadCount * RANGES_PER_THREAD];
+        for (int i = 0; i < ranges.length; i++) {
+            ranges[i] = new RangeTask(i);
+        }
+        this.root = new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask.invokeAll(ranges);
+            }
+        };
+    }
+
+    /**
+     * @param units Einheiten, Index in der Liste = Slot im UnitStore
+     */
+    public void update(List<GridUnit> units, UnitStore store, float deltaTime) {
+        this.units = units;
+        this.store = store;
+        this.deltaTime = deltaTime;
+        this.count = units.size();
+        boolean split = parallel && count >= MIN_PARALLEL_UNITS;
+
+        long begin = System.nanoTime();
+        if (split) {
+            runRanges(DECIDE);
+        } else {
+            for (int i = 0; i < count; i++) {
+                units.get(i).decide(deltaTime);
+            }
+        }
+
+        long decided = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            units.get(i).commit(deltaTime);
+        }
+
+        long committed = System.nanoTime();
+        if (split) {
+            runRanges(MOVE);
+        } else {
+            store.update(deltaTime, 0, count);
+        }
+        long moved = System.nanoTime();
+
+        decideMillis = (decided - begin) / 1_000_000f;
+        commitMillis = (committed - decided) / 1_000_000f;
+        moveMillis = (moved - committed) / 1_000_000f;
+
+        this.units = null;
+        this.store = null;
+    }
+
+    private void runRanges(int phase) {
+        this.phase = phase;
+        pool.invoke(root);
+
+        // Tasks für den nächsten Durchlauf wiederverwenden
+        root.reinitialize();
+        for (RangeTask range : ranges) {
+            range.reinitialize();
+        }
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public void dispose() {
+        pool.shutdown();
+    }
+
+    // Getter
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public int getThreadCount() {
+        return pool.getParallelism();
+    }
+
+    public float getDecideMillis() {
+        return decideMillis;
+    }
+
+    public float getCommitMillis() {
+        return commitMillis;
+    }
+
+    public float getMoveMillis() {
+        return moveMillis;
+    }
+}
@@ -3,9 +3,12 @@ package game.samples.rts03;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+import game.samples.common.SweptCircle;
 
-public class Bullet {
+public class Bullet implements Pool.Poolable {
     private Vector2 position;
+    private Vector2 previousPosition; // Position vor dem letzten update()
     private Vector2 velocity;
     private float speed;
     private float lifetime;
@@ -16,30 +19,46 @@ public class Bullet {
     private int damage;
     private boolean willHit; // Ob dieser Schuss treffen wird
 
-    public Bullet(float x, float y, float angle, float speed, int damage, boolean willHit) {
-        this.position = new Vector2(x, y);
+    public Bullet() {
+        this.position = new Vector2();
+        this.previousPosition = new Vector2();
+        this.velocity = new Vector2();
+        this.maxLifetime = 3f; // 3 Sekunden maximal
+        this.size = 4f;
+    }
+
+    /**
+     * Setzt die Bullet neu auf - für Objekte aus dem Pool
+     */
+    public void init(float x, float y, float angle, float speed, int damage, boolean willHit) {
+        this.position.set(x, y);
+        this.previousPosition.set(x, y);
         this.speed = speed;
         this.damage = damage;
         this.willHit = willHit;
         this.lifetime = 0f;
-        this.maxLifetime = 3f; // 3 Sekunden maximal
         this.isAlive = true;
-        this.size = 4f;
 
         // Berechne Velocity aus Winkel
         float angleRad = angle * MathUtils.degreesToRadians;
-        this.velocity = new Vector2(
+        this.velocity.set(
             MathUtils.cos(angleRad) * speed,
             MathUtils.sin(angleRad) * speed
         );
     }
 
+    @Override
+    public void reset() {
+        isAlive = false;
+    }
+
     public void update(float deltaTime) {
         if (!isAlive) return;
 
         lifetime += deltaTime;
 
         // Bewege Bullet
+        previousPosition.set(position);
         position.add(velocity.x * deltaTime, velocity.y * deltaTime);
 
         // Prüfe Lebensdauer
@@ -48,7 +67,10 @@ public class Bullet {
         }
     }
 
-    public void render(ShapeRenderer renderer) {
+    /**
+     * @param alpha Anteil des nächsten Schritts, gezeichnet zwischen previousPosition und position
+     */
+    public void render(ShapeRenderer renderer, float alpha) {
         if (!isAlive) return;
 
         // Farbe basierend auf Trefferwahrscheinlichkeit (für Debug)
@@ -58,18 +80,24 @@ public class Bullet {
             renderer.setColor(1, 1, 0, 1); // Gelb für Fehlschuss
         }
 
-        renderer.circle(position.x, position.y, size);
+        renderer.circle(
+            previousPosition.x + (position.x - previousPosition.x) * alpha,
+            previousPosition.y + (position.y - previousPosition.y) * alpha,
+            size
+        );
     }
 
     /**
-     * Prüft ob diese Bullet das Ziel trifft
+     * Prüft ob diese Bullet das Ziel trifft (entlang der Bewegung im letzten Frame,
+     * damit schnelle Bullets bei langen Frames nicht durch das Ziel tunneln)
      */
     public boolean checkHit(PlayerShip target) {
         if (!isAlive || !willHit) return false;
         if (!target.isAlive()) return false;
 
-        float distance = position.dst(target.getPosition());
-        return distance < (size + target.getSize());
+        Vector2 targetPosition = target.getPosition();
+        return SweptCircle.timeOfImpact(previousPosition.x, previousPosition.y, position.x, position.y,
+            targetPosition.x, targetPosition.y, size + target.getSize()) >= 0f;
     }
 
     public void destroy() {
@@ -12,11 +12,14 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.viewport.ScreenViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import game.samples.common.FixedStepLoop;
+import game.samples.common.ObjectPool;
+import game.samples.common.TriangleBatch;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -25,6 +28,7 @@ import java.util.List;
  */
 public class Main extends ApplicationAdapter {
     private ShapeRenderer shapeRenderer;
+    private TriangleBatch triangles;
     private SpriteBatch batch;
     private BitmapFont font;
 
@@ -40,7 +44,8 @@ public class Main extends ApplicationAdapter {
 
     private PlayerShip player;
     private List<TurretTower> turrets;
-    private List<Bullet> bullets;
+    private Array<Bullet> bullets; // ungeordnet: Entfernen tauscht mit dem letzten Element
+    private ObjectPool<Bullet> bulletPool;
 
     private boolean showRanges;
     private boolean placingTurret;
@@ -50,9 +55,13 @@ public class Main extends ApplicationAdapter {
     private int totalShots;
     private int totalHits;
 
+    // Simulation mit 60 festen Schritten pro Sekunde, unabhängig von der Bildrate
+    private final FixedStepLoop loop = new FixedStepLoop(1f / 60f, 5);
+
     @Override
     public void create() {
         shapeRenderer = new ShapeRenderer();
+        triangles = new TriangleBatch();
         batch = new SpriteBatch();
         font = new BitmapFont();
         font.getData().setScale(1.5f);
@@ -70,7 +79,8 @@ public class Main extends ApplicationAdapter {
         worldCamera.update();
 
         turrets = new ArrayList<>();
-        bullets = new ArrayList<>();
+        bullets = new Array<>(false, 64);
+        bulletPool = new ObjectPool<>(Bullet::new);
 
         // Start-Türme
         turrets.add(new TurretTower(400, 300));
@@ -113,10 +123,18 @@ public class Main extends ApplicationAdapter {
 
     @Override
     public void render() {
-        float deltaTime = Gdx.graphics.getDeltaTime();
+        handleInput();
+
+        int steps = loop.advance(Gdx.graphics.getDeltaTime());
+        for (int i = 0; i < steps; i++) {
+            player.storePreviousState();
+            applyControls(loop.getStep());
+            updateGame(loop.getStep());
+        }
 
-        handleInput(deltaTime);
-        updateGame(deltaTime);
+        // Zwischen zwei Simulationsschritten interpolieren, die Kamera folgt der gezeichneten Position
+        float alpha = loop.getAlpha();
+        cameraController.update(player.getRenderPosition(alpha));
 
         Gdx.gl.glClearColor(0.1f, 0.15f, 0.1f, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
@@ -155,8 +173,8 @@ public class Main extends ApplicationAdapter {
         }
 
         // Bullets
-        for (Bullet bullet : bullets) {
-            bullet.render(shapeRenderer);
+        for (int i = 0; i < bullets.size; i++) {
+            bullets.get(i).render(shapeRenderer, alpha);
         }
 
         shapeRenderer.end();
@@ -173,7 +191,8 @@ public class Main extends ApplicationAdapter {
 
         // Player
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-        player.render(shapeRenderer);
+        player.render(triangles, alpha);
+        triangles.draw(shapeRenderer);
         shapeRenderer.end();
 
         // === UI RENDERING ===
@@ -183,7 +202,10 @@ public class Main extends ApplicationAdapter {
         renderUI();
     }
 
-    private void handleInput(float deltaTime) {
+    /**
+     * Gehaltene Tasten steuern das Schiff - einmal pro Simulationsschritt
+     */
+    private void applyControls(float deltaTime) {
         if (!player.isAlive()) return;
 
         if (Gdx.input.isKeyPressed(Input.Keys.UP) || Gdx.input.isKeyPressed(Input.Keys.W)) {
@@ -198,6 +220,13 @@ public class Main extends ApplicationAdapter {
         if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) || Gdx.input.isKeyPressed(Input.Keys.D)) {
             player.turnRight(deltaTime);
         }
+    }
+
+    /**
+     * Umschalter - einmal pro Frame
+     */
+    private void handleInput() {
+        if (!player.isAlive()) return;
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.R)) {
             showRanges = !showRanges;
@@ -213,9 +242,6 @@ public class Main extends ApplicationAdapter {
         // Update Player
         player.update(deltaTime);
 
-        // Update Camera
-        cameraController.update(player.getPosition());
-
         // Update Turrets und Schüsse
         for (TurretTower turret : turrets) {
             turret.update(deltaTime, player);
@@ -224,7 +250,7 @@ public class Main extends ApplicationAdapter {
             if (turret.hasTarget() && turret.isAimedAtTarget() &&
                 turret.isInFireRange(player) && turret.canFire()) {
 
-                Bullet bullet = turret.fire(player);
+                Bullet bullet = turret.fire(player, bulletPool);
                 if (bullet != null) {
                     bullets.add(bullet);
                     totalShots++;
@@ -233,9 +259,9 @@ public class Main extends ApplicationAdapter {
         }
 
         // Update Bullets
-        Iterator<Bullet> bulletIter = bullets.iterator();
-        while (bulletIter.hasNext()) {
-            Bullet bullet = bulletIter.next();
+        // Rückwärts, damit nach dem Tausch-Entfernen nichts übersprungen wird
+        for (int i = bullets.size - 1; i >= 0; i--) {
+            Bullet bullet = bullets.get(i);
             bullet.update(deltaTime);
 
             // Prüfe Treffer
@@ -247,7 +273,7 @@ public class Main extends ApplicationAdapter {
 
             // Entferne tote Bullets
             if (!bullet.isAlive()) {
-                bulletIter.remove();
+                bulletPool.free(bullets.removeIndex(i));
             }
         }
     }
@@ -307,7 +333,8 @@ public class Main extends ApplicationAdapter {
 
         font.setColor(Color.CYAN);
         font.draw(batch, "Turrets: " + turrets.size(), 10, uiViewport.getScreenHeight() - 160);
-        font.draw(batch, "Bullets: " + bullets.size(), 10, uiViewport.getScreenHeight() - 185);
+        font.draw(batch, "Bullets: " + bullets.size + " (pool: " + bulletPool.getFree() + " free, " +
+            bulletPool.getCreated() + " created)", 10, uiViewport.getScreenHeight() - 185);
         font.draw(batch, "Shots: " + totalShots + " | Hits: " + totalHits,
             10, uiViewport.getScreenHeight() - 210);
 
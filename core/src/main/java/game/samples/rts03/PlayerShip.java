@@ -1,13 +1,19 @@
 package game.samples.rts03;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import game.samples.common.TriangleBatch;
 
 public class PlayerShip {
     private Vector2 position;
     private float rotation; // In Grad
+
+    // Zustand vor dem aktuellen Schritt, zum Interpolieren beim Zeichnen
+    private Vector2 previousPosition;
+    private float previousRotation;
+    private Vector2 renderPosition;
+
     private float size;
     private float speed;
 
@@ -27,6 +33,8 @@ public class PlayerShip {
         this.position = new Vector2(x, y);
         this.velocity = new Vector2();
         this.rotation = 0f;
+        this.previousPosition = new Vector2(x, y);
+        this.renderPosition = new Vector2();
         this.size = 15f;
 
         this.maxHealth = 100;
@@ -40,6 +48,14 @@ public class PlayerShip {
         this.turnSpeed = 200f; // Grad pro Sekunde
     }
 
+    /**
+     * Zu Beginn jedes Simulationsschritts aufrufen, vor der Steuerung (die dreht schon)
+     */
+    public void storePreviousState() {
+        previousPosition.set(position);
+        previousRotation = rotation;
+    }
+
     public void update(float deltaTime) {
         if (!isAlive) return;
 
@@ -109,7 +125,10 @@ public class PlayerShip {
         }
     }
 
-    public void render(ShapeRenderer renderer) {
+    /**
+     * @param alpha Anteil des nächsten Schritts (FixedStepLoop.getAlpha())
+     */
+    public void render(TriangleBatch triangles, float alpha) {
         if (!isAlive) return;
 
         // Farbe basierend auf Gesundheit
@@ -124,43 +143,20 @@ public class PlayerShip {
             color = Color.RED;
         }
 
-        renderer.setColor(color);
-
-        // Dreieck-Vertices
-        float halfSize = size / 2f;
-
-        // Spitze (vorne)
-        float x1 = position.x + size;
-        float y1 = position.y;
+        // Kürzester Weg zwischen den beiden Winkeln
+        float diff = rotation - previousRotation;
+        if (diff > 180f) diff -= 360f;
+        if (diff < -180f) diff += 360f;
 
-        // Linke hintere Ecke
-        float x2 = position.x - halfSize;
-        float y2 = position.y + halfSize;
-
-        // Rechte hintere Ecke
-        float x3 = position.x - halfSize;
-        float y3 = position.y - halfSize;
-
-        // Rotiere Punkte
-        Vector2 p1 = rotatePoint(x1, y1, position.x, position.y, rotation);
-        Vector2 p2 = rotatePoint(x2, y2, position.x, position.y, rotation);
-        Vector2 p3 = rotatePoint(x3, y3, position.x, position.y, rotation);
-
-        renderer.triangle(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y);
+        Vector2 drawPosition = getRenderPosition(alpha);
+        triangles.add(drawPosition.x, drawPosition.y, size, previousRotation + diff * alpha, color);
     }
 
-    private Vector2 rotatePoint(float x, float y, float centerX, float centerY, float angleDeg) {
-        float angleRad = angleDeg * MathUtils.degreesToRadians;
-        float cos = MathUtils.cos(angleRad);
-        float sin = MathUtils.sin(angleRad);
-
-        float translatedX = x - centerX;
-        float translatedY = y - centerY;
-
-        float rotatedX = translatedX * cos - translatedY * sin;
-        float rotatedY = translatedX * sin + translatedY * cos;
-
-        return new Vector2(rotatedX + centerX, rotatedY + centerY);
+    /**
+     * Position zwischen letztem und aktuellem Schritt (wird wiederverwendet)
+     */
+    public Vector2 getRenderPosition(float alpha) {
+        return renderPosition.set(previousPosition).lerp(position, alpha);
     }
 
     // Getter
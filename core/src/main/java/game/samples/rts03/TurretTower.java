@@ -4,6 +4,7 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
 
 
 public class TurretTower {
@@ -131,9 +132,9 @@ public class TurretTower {
     }
 
     /**
-     * Erstellt eine Bullet
+     * Holt eine Bullet aus dem Pool und schießt sie ab
      */
-    public Bullet fire(PlayerShip player) {
+    public Bullet fire(PlayerShip player, Pool<Bullet> bulletPool) {
         if (!canFire() || !hasTarget) return null;
 
         fireCooldown = 1f / fireRate;
@@ -158,7 +159,9 @@ public class TurretTower {
             shootAngle += MathUtils.random(-20f, 20f);
         }
 
-        return new Bullet(spawnX, spawnY, shootAngle, 400f, damage, willHit);
+        Bullet bullet = bulletPool.obtain();
+        bullet.init(spawnX, spawnY, shootAngle, 400f, damage, willHit);
+        return bullet;
     }
 
     public void render(ShapeRenderer renderer) {
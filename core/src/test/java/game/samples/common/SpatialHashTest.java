@@ -0,0 +1,144 @@
+package game.samples.common;
+
+import game.samples.demo06.TargetSeeker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * SpatialHash.findNearest() gegen die Schleife über alle Seeker
+ * (TargetSeeker.findEnemyInRange), wie die Gegenprobe in demo06.
+ */
+public class SpatialHashTest {
+    private static final int TRIALS = 300;
+
+    @Test
+    public void findNearestMatchesBruteForce() {
+        Random random = new Random(42);
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            float width = 100f + random.nextInt(1400);
+            float height = 100f + random.nextInt(1000);
+            float cellSize = 10f + random.nextInt(190);
+            float range = 10f + random.nextInt(390);
+            int count = random.nextInt(300);
+            // Auf einem groben Raster liegen viele Seeker gleich weit entfernt
+            boolean lattice = random.nextBoolean();
+
+            List<TargetSeeker> seekers = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                float x = random.nextFloat() * width;
+                float y = random.nextFloat() * height;
+                // Einige außerhalb der Welt (landen in den Randzellen)
+                if (random.nextInt(10) == 0) {
+                    x += random.nextBoolean() ? width : -width;
+                }
+                if (random.nextInt(10) == 0) {
+                    y += random.nextBoolean() ? height : -height;
+                }
+                if (lattice) {
+                    x = Math.round(x / 10f) * 10f;
+                    y = Math.round(y / 10f) * 10f;
+                }
+
+                TargetSeeker seeker = createSeeker(x, y, range);
+                if (random.nextInt(5) == 0) {
+                    seeker.destroy();
+                }
+                seekers.add(seeker);
+            }
+
+            SpatialHash grid = build(seekers, width, height, cellSize);
+            for (int i = 0; i < count; i++) {
+                TargetSeeker seeker = seekers.get(i);
+                if (seeker.isDestroyed()) continue;
+
+                assertEquals(bruteForce(seekers, i), findNearest(grid, seekers, i),
+                    "Versuch " + trial + ", Seeker " + i);
+            }
+        }
+    }
+
+    @Test
+    public void tieGoesToLowerId() {
+        List<TargetSeeker> seekers = new ArrayList<>();
+        seekers.add(createSeeker(100f, 100f, 50f));
+        // Beide 30 entfernt, die höhere ID liegt in einer früheren Zelle
+        seekers.add(createSeeker(130f, 100f, 50f));
+        seekers.add(createSeeker(70f, 100f, 50f));
+
+        SpatialHash grid = build(seekers, 200f, 200f, 20f);
+        assertEquals(1, bruteForce(seekers, 0));
+        assertEquals(1, findNearest(grid, seekers, 0));
+    }
+
+    @Test
+    public void excludesSelfAndDestroyed() {
+        List<TargetSeeker> seekers = new ArrayList<>();
+        seekers.add(createSeeker(100f, 100f, 50f));
+        seekers.add(createSeeker(105f, 100f, 50f));
+        seekers.add(createSeeker(120f, 100f, 50f));
+        seekers.add(createSeeker(100f, 100f, 50f)); // gleiche Position wie Seeker 0
+        seekers.get(1).destroy();
+        seekers.get(3).destroy();
+
+        SpatialHash grid = build(seekers, 200f, 200f, 20f);
+        assertEquals(2, bruteForce(seekers, 0));
+        assertEquals(2, findNearest(grid, seekers, 0));
+    }
+
+    @Test
+    public void positionsOutsideTheGrid() {
+        List<TargetSeeker> seekers = new ArrayList<>();
+        seekers.add(createSeeker(-40f, -40f, 100f));
+        seekers.add(createSeeker(10f, 10f, 100f));
+        seekers.add(createSeeker(-60f, -90f, 100f));
+        seekers.add(createSeeker(260f, 250f, 100f));
+        seekers.add(createSeeker(190f, 190f, 100f));
+
+        SpatialHash grid = build(seekers, 200f, 200f, 20f);
+        for (int i = 0; i < seekers.size(); i++) {
+            assertEquals(bruteForce(seekers, i), findNearest(grid, seekers, i), "Seeker " + i);
+        }
+        assertEquals(2, findNearest(grid, seekers, 0));
+        assertEquals(4, findNearest(grid, seekers, 3));
+    }
+
+    private static TargetSeeker createSeeker(float x, float y, float range) {
+        TargetSeeker seeker = new TargetSeeker(800f, 600f, 10f, 100f, 180f);
+        seeker.getPosition().set(x, y);
+        seeker.setWeaponRange(range);
+        return seeker;
+    }
+
+    /**
+     * Wie CombatPipeline: zerstörte Seeker kommen nicht ins Gitter, ID = Listenindex
+     */
+    private static SpatialHash build(List<TargetSeeker> seekers, float width, float height, float cellSize) {
+        SpatialHash grid = new SpatialHash(width, height, cellSize);
+        for (int i = 0; i < seekers.size(); i++) {
+            TargetSeeker seeker = seekers.get(i);
+            if (seeker.isDestroyed()) continue;
+            grid.add(i, seeker.getPosition().x, seeker.getPosition().y);
+        }
+        grid.build();
+        return grid;
+    }
+
+    private static int findNearest(SpatialHash grid, List<TargetSeeker> seekers, int i) {
+        TargetSeeker seeker = seekers.get(i);
+        return grid.findNearest(seeker.getPosition().x, seeker.getPosition().y, seeker.getWeaponRange(), i);
+    }
+
+    private static int bruteForce(List<TargetSeeker> seekers, int i) {
+        TargetSeeker enemy = seekers.get(i).findEnemyInRange(seekers);
+        for (int k = 0; k < seekers.size(); k++) {
+            if (seekers.get(k) == enemy) return k;
+        }
+        return -1;
+    }
+}